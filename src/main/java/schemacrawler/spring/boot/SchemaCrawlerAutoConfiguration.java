@@ -1,39 +1,66 @@
 package schemacrawler.spring.boot;
 
-import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import javax.servlet.Servlet;
 import javax.sql.DataSource;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.util.ObjectUtils;
+import org.springframework.context.annotation.Lazy;
 
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import schemacrawler.crawl.SchemaCrawler;
-import schemacrawler.schemacrawler.FilterOptionsBuilder;
-import schemacrawler.schemacrawler.GrepOptions;
-import schemacrawler.schemacrawler.GrepOptionsBuilder;
-import schemacrawler.schemacrawler.LimitOptions;
-import schemacrawler.schemacrawler.LimitOptionsBuilder;
-import schemacrawler.schemacrawler.LoadOptions;
-import schemacrawler.schemacrawler.LoadOptionsBuilder;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
-import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
 import schemacrawler.spring.boot.ext.ConnectionProvider;
-import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
 import schemacrawler.spring.boot.ext.SchemaCrawlerConnectionProvider;
-import schemacrawler.spring.boot.ext.SchemaCrawlerInclusionRules;
+import schemacrawler.spring.boot.ext.actuate.SchemaCrawlerEndpoint;
+import schemacrawler.spring.boot.ext.cache.CatalogCache;
+import schemacrawler.spring.boot.ext.codec.CatalogCodec;
+import schemacrawler.spring.boot.ext.concurrent.CrawlExecutor;
+import schemacrawler.spring.boot.ext.concurrent.CrawlScheduler;
+import schemacrawler.spring.boot.ext.export.CatalogExportServlet;
+import schemacrawler.spring.boot.ext.jfr.JfrCrawlListener;
+import schemacrawler.spring.boot.ext.listener.CrawlListener;
+import schemacrawler.spring.boot.ext.listener.CrawlListeners;
+import schemacrawler.spring.boot.ext.listener.CrawlStatsListener;
+import schemacrawler.spring.boot.ext.metrics.MicrometerCrawlListener;
+import schemacrawler.spring.boot.ext.pool.MetadataDataSources;
+import schemacrawler.spring.boot.ext.registry.SchemaCrawlerOptionsRegistry;
+import schemacrawler.spring.boot.ext.registry.SchemaCrawlerOptionsRegistryInitializer;
+import schemacrawler.spring.boot.ext.registry.SchemaCrawlerOptionsReloader;
+import schemacrawler.spring.boot.ext.snapshot.CatalogSnapshotStore;
+import schemacrawler.spring.boot.ext.warmup.CatalogWarmer;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
 import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
 
 @Configuration
+@AutoConfigureAfter(name = {
+	"org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+	"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration" })
 @ConditionalOnClass({ SchemaCrawler.class })
 @ConditionalOnProperty(prefix = SchemaCrawlerProperties.PREFIX, value = "enabled", havingValue = "true")
 @EnableConfigurationProperties({ SchemaCrawlerProperties.class })
@@ -46,62 +73,20 @@ public class SchemaCrawlerAutoConfiguration implements ApplicationContextAware {
 	private SchemaCrawlerProperties properties;
 
 	@Bean
-	public DatabaseConnectorRegistry databaseConnectorRegistry() throws SchemaCrawlerException {
-
-		//
-		Iterator<DatabaseSchemaCrawlerOptions> ite = properties.getCrawlerOptions().iterator();
-		while (ite.hasNext()) {
-			DatabaseSchemaCrawlerOptions crawlerOptions = ite.next();
-			// 获取自定义的规则
-			SchemaCrawlerInclusionRules rules = crawlerOptions.getRules();
-			if (!ObjectUtils.isEmpty(rules)) {
-
-				final GrepOptions grepOptions = GrepOptionsBuilder.builder()
-						/*
-						 * InclusionRule grepColumnInclusionRule; InclusionRule
-						 * grepRoutineColumnInclusionRule; InclusionRule grepDefinitionInclusionRule;
-						 */
-						.includeGreppedColumns(rules.getGrepColumnInclusionRule().inclusionRule())
-						.includeGreppedDefinitions(rules.getGrepDefinitionInclusionRule().inclusionRule())
-				// .includeGreppedRoutineColumns(rules.getGrepRoutineColumnInclusionRule().inclusionRule())
-						.toOptions();
-
-				final LimitOptions limitOptions = LimitOptionsBuilder.builder()
-						// Set what details are required in the schema - this affects the
-						/*
-						 * InclusionRule schemaInclusionRule; InclusionRule synonymInclusionRule; InclusionRule sequenceInclusionRule;
-						 */
-						.includeSchemas(rules.getSchemaInclusionRule().inclusionRule())
-						.includeSequences(rules.getSequenceInclusionRule().inclusionRule())
-						.includeSynonyms(rules.getSynonymInclusionRule().inclusionRule())
-						/*
-						 * InclusionRule tableInclusionRule; InclusionRule columnInclusionRule;
-						 */
-						.includeTables(rules.getTableInclusionRule().inclusionRule())
-						.includeColumns(rules.getColumnInclusionRule().inclusionRule())
-						/*
-						 * InclusionRule routineInclusionRule; InclusionRule routineColumnInclusionRule;
-						 */
-						// .includeRoutineColumns(rules.getRoutineColumnInclusionRule().inclusionRule())
-						.includeRoutines(rules.getRoutineInclusionRule().inclusionRule())
-						.toOptions();
-
-				LoadOptions loadOptions = LoadOptionsBuilder.builder()
-						.withSchemaInfoLevel(SchemaInfoLevelBuilder.standard()).toOptions();
-
-				SchemaCrawlerOptions schemaCrawlerOptions =  SchemaCrawlerOptionsBuilder
-						.newSchemaCrawlerOptions()
-						.withFilterOptions(FilterOptionsBuilder.newFilterOptions())
-						.withGrepOptions(grepOptions)
-						.withLimitOptions(limitOptions)
-						.withLoadOptions(loadOptions);
-
-				// reset options
-				crawlerOptions.setOptions(schemaCrawlerOptions);
-			}
-		}
+	public SchemaCrawlerOptionsRegistry schemaCrawlerOptionsRegistry() {
+		return new SchemaCrawlerOptionsRegistry(properties::getCrawlerOptions, SchemaCrawlerOptionBuilder::fromRules);
+	}
+
+	@Bean
+	public SchemaCrawlerOptionsRegistryInitializer schemaCrawlerOptionsRegistryInitializer(
+			SchemaCrawlerOptionsRegistry optionsRegistry, CrawlExecutor crawlExecutor) {
+		return new SchemaCrawlerOptionsRegistryInitializer(optionsRegistry, properties.getRegistry().getInitialization(), crawlExecutor);
+	}
 
-		return DatabaseConnectorRegistry.getDatabaseConnectorRegistry();
+	@Bean
+	@Lazy
+	public DatabaseConnectorRegistry databaseConnectorRegistry(SchemaCrawlerOptionsRegistry optionsRegistry) throws SchemaCrawlerException {
+		return optionsRegistry.getDatabaseConnectorRegistry();
 	}
 
 	@Bean
@@ -109,11 +94,162 @@ public class SchemaCrawlerAutoConfiguration implements ApplicationContextAware {
 		return new SchemaCrawlerConnectionProvider(datasource);
 	}
 
+	@Bean
+	@ConditionalOnProperty(prefix = SchemaCrawlerProperties.PREFIX + ".cache", value = "enabled", havingValue = "true")
+	public CatalogCache catalogCache(ObjectProvider<CrawlListener> listeners) {
+		CatalogCache catalogCache = new CatalogCache(properties.getCache());
+		catalogCache.setListener(new CrawlListeners(listeners.orderedStream().collect(Collectors.toList())));
+		return catalogCache;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public CatalogCodec catalogCodec() {
+		return new CatalogCodec(properties.getSnapshot().getCompression());
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = SchemaCrawlerProperties.PREFIX + ".snapshot", value = "enabled", havingValue = "true")
+	public CatalogSnapshotStore catalogSnapshotStore(CatalogCodec catalogCodec) {
+		return new CatalogSnapshotStore(properties.getSnapshot(), catalogCodec);
+	}
+
+	@Bean
+	public CrawlExecutor crawlExecutor() {
+		return new CrawlExecutor(properties.getExecutor());
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = SchemaCrawlerProperties.PREFIX + ".scheduler", value = "enabled", havingValue = "true")
+	public CrawlScheduler crawlScheduler() {
+		return new CrawlScheduler(properties.getScheduler());
+	}
+
 	@Bean
 	public SchemaCrawlerTemplate disruptorTemplate() {
 		return new SchemaCrawlerTemplate();
 	}
 
+	@Bean
+	@ConditionalOnProperty(prefix = SchemaCrawlerProperties.PREFIX + ".warmup", value = "enabled", havingValue = "true")
+	public CatalogWarmer catalogWarmer(SchemaCrawlerTemplate template, ObjectProvider<DataSource> dataSource) {
+		return new CatalogWarmer(properties.getWarmup(), template, properties.getCrawlerOptions(), dataSource.getIfUnique(),
+				applicationContext);
+	}
+
+	@Configuration
+	@ConditionalOnClass({ Endpoint.class, ConditionalOnAvailableEndpoint.class })
+	protected static class SchemaCrawlerEndpointConfiguration {
+
+		@Bean
+		@ConditionalOnAvailableEndpoint(endpoint = SchemaCrawlerEndpoint.class)
+		public CrawlStatsListener crawlStatsListener() {
+			return new CrawlStatsListener();
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnAvailableEndpoint(endpoint = SchemaCrawlerEndpoint.class)
+		public SchemaCrawlerEndpoint schemaCrawlerEndpoint(SchemaCrawlerProperties properties, SchemaCrawlerTemplate template,
+				CrawlStatsListener crawlStatsListener, ObjectProvider<DataSource> dataSource) {
+			return new SchemaCrawlerEndpoint(properties, template, crawlStatsListener, dataSource.getIfUnique());
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass(name = SchemaCrawlerOptionsReloader.ENVIRONMENT_CHANGE_EVENT)
+	protected static class SchemaCrawlerReloadConfiguration {
+
+		@Bean
+		public SchemaCrawlerOptionsReloader schemaCrawlerOptionsReloader(SchemaCrawlerOptionsRegistry optionsRegistry) {
+			return new SchemaCrawlerOptionsReloader(optionsRegistry);
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass(name = "jdk.jfr.Event")
+	@ConditionalOnProperty(prefix = SchemaCrawlerProperties.PREFIX + ".jfr", value = "enabled", havingValue = "true")
+	protected static class SchemaCrawlerJfrConfiguration {
+
+		@Bean
+		public JfrCrawlListener jfrCrawlListener() {
+			return new JfrCrawlListener();
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass({ HikariDataSource.class })
+	protected static class SchemaCrawlerPoolConfiguration {
+
+		@Bean
+		@ConditionalOnProperty(prefix = SchemaCrawlerProperties.PREFIX + ".pool", value = "enabled", havingValue = "true", matchIfMissing = true)
+		public MetadataDataSources metadataDataSources(SchemaCrawlerProperties properties) {
+			return new MetadataDataSources(properties.getPool());
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass({ MeterRegistry.class })
+	@ConditionalOnBean({ MeterRegistry.class })
+	protected static class SchemaCrawlerMetricsConfiguration {
+
+		@Bean
+		public MicrometerCrawlListener micrometerCrawlListener(MeterRegistry registry) {
+			return new MicrometerCrawlListener(registry);
+		}
+
+		/*
+		 * The cache and the scheduler are defined by the outer configuration, whose beans are registered after the
+		 * ones of the nested configurations, so they are looked up when binding rather than with @ConditionalOnBean.
+		 */
+		@Bean
+		public MeterBinder catalogCacheMetrics(ObjectProvider<CatalogCache> catalogCacheProvider) {
+			return registry -> catalogCacheProvider.ifAvailable(catalogCache -> {
+				Gauge.builder("schemacrawler.cache.size", catalogCache, CatalogCache::size)
+						.description("Number of cached catalogs").register(registry);
+				Gauge.builder("schemacrawler.cache.weight", catalogCache, CatalogCache::weight)
+						.description("Estimated number of catalog objects held by the cache").register(registry);
+			});
+		}
+
+		@Bean
+		public MeterBinder crawlSchedulerMetrics(ObjectProvider<CrawlScheduler> crawlSchedulerProvider) {
+			return registry -> crawlSchedulerProvider.ifAvailable(crawlScheduler -> {
+				Gauge.builder("schemacrawler.scheduler.queued", crawlScheduler, CrawlScheduler::getQueueDepth)
+						.description("Number of crawls waiting for their turn").register(registry);
+				Gauge.builder("schemacrawler.scheduler.active", crawlScheduler, CrawlScheduler::getActiveCrawls)
+						.description("Number of crawls running against pooled DataSources").register(registry);
+				FunctionTimer.builder("schemacrawler.scheduler.wait", crawlScheduler, CrawlScheduler::getWaitCount,
+						CrawlScheduler::getWaitNanos, TimeUnit.NANOSECONDS)
+						.description("Time crawls waited for their turn").register(registry);
+				FunctionCounter.builder("schemacrawler.scheduler.rejections", crawlScheduler, CrawlScheduler::getRejections)
+						.description("Number of crawls rejected after the queue timeout").register(registry);
+			});
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass({ Servlet.class })
+	@ConditionalOnWebApplication(type = Type.SERVLET)
+	@ConditionalOnProperty(prefix = SchemaCrawlerProperties.PREFIX + ".export", value = "enabled", havingValue = "true")
+	protected static class SchemaCrawlerExportConfiguration {
+
+		@Bean
+		public ServletRegistrationBean<CatalogExportServlet> catalogExportServlet(SchemaCrawlerProperties properties,
+				SchemaCrawlerTemplate template, ConnectionProvider connectionProvider) {
+			ServletRegistrationBean<CatalogExportServlet> registration = new ServletRegistrationBean<CatalogExportServlet>(
+					new CatalogExportServlet(template, connectionProvider), properties.getExport().getPath());
+			registration.setName("schemacrawlerExport");
+			return registration;
+		}
+
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
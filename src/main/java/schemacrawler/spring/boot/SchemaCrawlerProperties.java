@@ -6,6 +6,16 @@ import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.cache.CatalogCacheProperties;
+import schemacrawler.spring.boot.ext.concurrent.CrawlExecutorProperties;
+import schemacrawler.spring.boot.ext.concurrent.CrawlSchedulerProperties;
+import schemacrawler.spring.boot.ext.export.CatalogExportProperties;
+import schemacrawler.spring.boot.ext.jdbc.JdbcInstrumentationProperties;
+import schemacrawler.spring.boot.ext.jfr.JfrProperties;
+import schemacrawler.spring.boot.ext.pool.MetadataPoolProperties;
+import schemacrawler.spring.boot.ext.registry.OptionsRegistryProperties;
+import schemacrawler.spring.boot.ext.snapshot.CatalogSnapshotProperties;
+import schemacrawler.spring.boot.ext.warmup.CatalogWarmupProperties;
 
 @ConfigurationProperties(SchemaCrawlerProperties.PREFIX)
 public class SchemaCrawlerProperties {
@@ -18,6 +28,46 @@ public class SchemaCrawlerProperties {
      *  Database SchemaCrawlerOptions
      */
     private List<DatabaseSchemaCrawlerOptions> crawlerOptions = new ArrayList<DatabaseSchemaCrawlerOptions>();
+    /**
+     *  Catalog Cache
+     */
+    private CatalogCacheProperties cache = new CatalogCacheProperties();
+    /**
+     *  Catalog Snapshots
+     */
+    private CatalogSnapshotProperties snapshot = new CatalogSnapshotProperties();
+    /**
+     *  Executor of asynchronous crawls
+     */
+    private CrawlExecutorProperties executor = new CrawlExecutorProperties();
+    /**
+     *  Concurrency limits of crawls per DataSource
+     */
+    private CrawlSchedulerProperties scheduler = new CrawlSchedulerProperties();
+    /**
+     *  Table Export
+     */
+    private CatalogExportProperties export = new CatalogExportProperties();
+    /**
+     *  JDBC Instrumentation
+     */
+    private JdbcInstrumentationProperties instrumentation = new JdbcInstrumentationProperties();
+    /**
+     *  Dedicated metadata connection pools
+     */
+    private MetadataPoolProperties pool = new MetadataPoolProperties();
+    /**
+     *  Java Flight Recorder events
+     */
+    private JfrProperties jfr = new JfrProperties();
+    /**
+     *  Initialization of the database connector registry and the crawler options
+     */
+    private OptionsRegistryProperties registry = new OptionsRegistryProperties();
+    /**
+     *  Background warm-up crawls after startup
+     */
+    private CatalogWarmupProperties warmup = new CatalogWarmupProperties();
     
 	public boolean isEnabled() {
 		return enabled;
@@ -34,5 +84,85 @@ public class SchemaCrawlerProperties {
 	public void setCrawlerOptions(List<DatabaseSchemaCrawlerOptions> crawlerOptions) {
 		this.crawlerOptions = crawlerOptions;
 	}
+
+	public CatalogCacheProperties getCache() {
+		return cache;
+	}
+
+	public void setCache(CatalogCacheProperties cache) {
+		this.cache = cache;
+	}
+
+	public CatalogSnapshotProperties getSnapshot() {
+		return snapshot;
+	}
+
+	public void setSnapshot(CatalogSnapshotProperties snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	public CrawlExecutorProperties getExecutor() {
+		return executor;
+	}
+
+	public void setExecutor(CrawlExecutorProperties executor) {
+		this.executor = executor;
+	}
+
+	public CrawlSchedulerProperties getScheduler() {
+		return scheduler;
+	}
+
+	public void setScheduler(CrawlSchedulerProperties scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	public CatalogExportProperties getExport() {
+		return export;
+	}
+
+	public void setExport(CatalogExportProperties export) {
+		this.export = export;
+	}
+
+	public JdbcInstrumentationProperties getInstrumentation() {
+		return instrumentation;
+	}
+
+	public void setInstrumentation(JdbcInstrumentationProperties instrumentation) {
+		this.instrumentation = instrumentation;
+	}
+
+	public MetadataPoolProperties getPool() {
+		return pool;
+	}
+
+	public void setPool(MetadataPoolProperties pool) {
+		this.pool = pool;
+	}
+
+	public JfrProperties getJfr() {
+		return jfr;
+	}
+
+	public void setJfr(JfrProperties jfr) {
+		this.jfr = jfr;
+	}
+
+	public OptionsRegistryProperties getRegistry() {
+		return registry;
+	}
+
+	public void setRegistry(OptionsRegistryProperties registry) {
+		this.registry = registry;
+	}
+
+	public CatalogWarmupProperties getWarmup() {
+		return warmup;
+	}
+
+	public void setWarmup(CatalogWarmupProperties warmup) {
+		this.warmup = warmup;
+	}
 	
 }
\ No newline at end of file
@@ -15,10 +15,25 @@
  */
 package schemacrawler.spring.boot;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import javax.sql.DataSource;
 
@@ -31,15 +46,44 @@ import schemacrawler.inclusionrule.IncludeAll;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.RoutineType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
+import schemacrawler.spring.boot.ext.CatalogSource;
 import schemacrawler.spring.boot.ext.ConnectionProvider;
 import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.RetrievalMode;
+import schemacrawler.spring.boot.ext.cache.CatalogCache;
+import schemacrawler.spring.boot.ext.cache.CatalogChangeDetector;
+import schemacrawler.spring.boot.ext.cache.CatalogCacheKey;
+import schemacrawler.spring.boot.ext.concurrent.CrawlDeadline;
+import schemacrawler.spring.boot.ext.concurrent.CrawlExecutor;
+import schemacrawler.spring.boot.ext.concurrent.CrawlScheduler;
+import schemacrawler.spring.boot.ext.concurrent.CrawlTimeoutException;
+import schemacrawler.spring.boot.ext.concurrent.SingleFlight;
+import schemacrawler.spring.boot.ext.export.NdjsonTableWriter;
+import schemacrawler.spring.boot.ext.jdbc.JdbcCallStats;
+import schemacrawler.spring.boot.ext.jdbc.JdbcInstrumentation;
+import schemacrawler.spring.boot.ext.jdbc.JdbcRoundTripRecorder;
+import schemacrawler.spring.boot.ext.jdbc.JdbcTuning;
+import schemacrawler.spring.boot.ext.jfr.JfrInstrumentation;
+import schemacrawler.spring.boot.ext.listener.CrawlContext;
+import schemacrawler.spring.boot.ext.listener.CrawlListener;
+import schemacrawler.spring.boot.ext.listener.CrawlListeners;
+import schemacrawler.spring.boot.ext.pool.MetadataDataSources;
+import schemacrawler.spring.boot.ext.registry.CrawlerOptionsSnapshot;
+import schemacrawler.spring.boot.ext.registry.SchemaCrawlerOptionsRegistry;
+import schemacrawler.spring.boot.ext.snapshot.CatalogSnapshotStore;
+import schemacrawler.spring.boot.utils.BulkRetrieval;
 import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionFingerprint;
+import schemacrawler.spring.boot.utils.SchemaCrawlerPartitions;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
 import us.fatehi.utility.ObjectToString;
 import us.fatehi.utility.database.DatabaseUtility;
@@ -48,24 +92,144 @@ public class SchemaCrawlerTemplate {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SchemaCrawlerTemplate.class);
 
-	@Autowired
 	private SchemaCrawlerProperties properties;
+	@Autowired(required = false)
+	private CatalogCache catalogCache;
+	@Autowired(required = false)
+	private CatalogSnapshotStore snapshotStore;
+	@Autowired(required = false)
+	private CrawlExecutor crawlExecutor;
+	@Autowired(required = false)
+	private CrawlScheduler crawlScheduler;
+	@Autowired(required = false)
+	private MetadataDataSources metadataDataSources;
+	@Autowired(required = false)
+	private SchemaCrawlerOptionsRegistry optionsRegistry;
+	private CrawlListeners listeners = new CrawlListeners(null);
+	private boolean cacheable = true;
+	/** Time budget of the crawls of this template view, null for no limit */
+	private CrawlDeadline deadline;
+	/** Keys for which a snapshot restore has already been attempted */
+	private Set<CatalogCacheKey> restored = ConcurrentHashMap.newKeySet();
+	/** Concurrent identical crawls share one in-flight crawl */
+	private SingleFlight<CatalogCacheKey, Catalog> singleFlight = new SingleFlight<CatalogCacheKey, Catalog>();
+
+	public SchemaCrawlerTemplate() {
+	}
+
+	public SchemaCrawlerTemplate(SchemaCrawlerProperties properties) {
+		setProperties(properties);
+	}
+
+	protected SchemaCrawlerTemplate(SchemaCrawlerTemplate template) {
+		this.properties = template.properties;
+		this.catalogCache = template.catalogCache;
+		this.snapshotStore = template.snapshotStore;
+		this.crawlExecutor = template.crawlExecutor;
+		this.crawlScheduler = template.crawlScheduler;
+		this.metadataDataSources = template.metadataDataSources;
+		this.optionsRegistry = template.optionsRegistry;
+		this.listeners = template.listeners;
+		this.restored = template.restored;
+		this.cacheable = template.cacheable;
+		this.deadline = template.deadline;
+		this.singleFlight = template.singleFlight;
+	}
+
+	/**
+	 * Without an injected {@link SchemaCrawlerOptionsRegistry}, a registry of the configured SchemaCrawlerOptions, used
+	 * as they are, is created here once and shared by every view of this template.
+	 * @param properties The SchemaCrawler properties
+	 */
+	@Autowired
+	public void setProperties(SchemaCrawlerProperties properties) {
+		this.properties = properties;
+		if (optionsRegistry == null) {
+			optionsRegistry = new SchemaCrawlerOptionsRegistry(properties::getCrawlerOptions, DatabaseSchemaCrawlerOptions::getOptions);
+		}
+	}
+
+	@Autowired(required = false)
+	public void setListeners(List<CrawlListener> listeners) {
+		this.listeners = new CrawlListeners(listeners);
+	}
+
+	/**
+	 * @return A view of this template whose crawls neither read nor populate the {@link CatalogCache}
+	 */
+	public SchemaCrawlerTemplate withoutCache() {
+		SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(this);
+		template.cacheable = false;
+		return template;
+	}
+
+	/**
+	 * @param timeout The time budget of the crawls, starting now
+	 * @return A view of this template whose crawls fail with a {@link CrawlTimeoutException} once the budget is spent
+	 * @see #withDeadline(CrawlDeadline)
+	 */
+	public SchemaCrawlerTemplate withTimeout(Duration timeout) {
+		return withDeadline(CrawlDeadline.after(timeout));
+	}
+
+	/**
+	 * Statements of the crawls get query timeouts from the remaining budget, and are cancelled when the deadline
+	 * passes or {@link CrawlDeadline#cancel()} is called. A crawl that joins an identical crawl already in flight
+	 * waits for that crawl, whose deadline applies.
+	 *
+	 * @param deadline The deadline of the crawls
+	 * @return A view of this template whose crawls observe the deadline
+	 */
+	public SchemaCrawlerTemplate withDeadline(CrawlDeadline deadline) {
+		SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(this);
+		template.deadline = deadline;
+		return template;
+	}
 
 	/**
 	 * @param dbType The Database type.
 	 * @return The SchemaCrawlerOptions {@link SchemaCrawlerOptions} Object
 	 */
 	public SchemaCrawlerOptions getCrawlerOptions(String dbType) {
-		Iterator<DatabaseSchemaCrawlerOptions> ite = properties.getCrawlerOptions().iterator();
-		while (ite.hasNext()) {
-			DatabaseSchemaCrawlerOptions crawlerOptions = ite.next();
-			if(crawlerOptions.getType().equals(dbType)) {
-				return crawlerOptions.getOptions();
-			}
+		CrawlerOptionsSnapshot snapshot = getCrawlerOptionsSnapshot(dbType);
+		if(snapshot != null) {
+			return snapshot.getOptions();
 		}
 		return SchemaCrawlerOptionBuilder.standard();
 	}
 
+	/**
+	 * @param dbType The Database type.
+	 * @return An unmodifiable copy of the configured {@link DatabaseSchemaCrawlerOptions} of the Database type, or null
+	 */
+	public DatabaseSchemaCrawlerOptions getDatabaseCrawlerOptions(String dbType) {
+		CrawlerOptionsSnapshot snapshot = getCrawlerOptionsSnapshot(dbType);
+		return snapshot == null ? null : snapshot.getCrawlerOptions();
+	}
+
+	/**
+	 * @param dbType The Database type.
+	 * @return The options snapshot of the Database type, with its precomputed fingerprint, or null
+	 */
+	public CrawlerOptionsSnapshot getCrawlerOptionsSnapshot(String dbType) {
+		return optionsRegistry == null ? null : optionsRegistry.getSnapshot(dbType);
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler and lets it crawl the database configured for the database type, through its
+	 * dedicated metadata connection pool.
+	 *
+	 * @param dbType The Database type, whose {@link DatabaseSchemaCrawlerOptions} has a url
+	 * @return The populated {@link Catalog} object containing the metadata for the extractor
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully, or has no url
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 * @see MetadataDataSources
+	 */
+	public Catalog crawl(String dbType) throws SchemaCrawlerException, SQLException {
+		return this.crawl(getMetadataSource(dbType), dbType, null, getCrawlerOptions(dbType));
+	}
+
 	/**
 	 *
 	 * Starts the schema crawler and lets it crawl the given DataSource.
@@ -77,15 +241,7 @@ public class SchemaCrawlerTemplate {
 	 * @throws SQLException Gets thrown when the database access error occurs
 	 */
 	public Catalog crawl(final DataSource dataSource, String dbType) throws SchemaCrawlerException, SQLException {
-		Connection connection = null;
-		try {
-			connection = dataSource.getConnection();
-			return this.crawl(dataSource.getConnection(), getCrawlerOptions(dbType));
-		} finally {
-			if(connection != null && !connection.isClosed()) {
-				connection.close();
-			}
-		}
+		return this.crawl(CatalogSource.of(dataSource), dbType, null, getCrawlerOptions(dbType));
 	}
 
 	/**
@@ -99,16 +255,7 @@ public class SchemaCrawlerTemplate {
 	 * @throws SQLException Gets thrown when the database access error occurs
 	 */
 	public Catalog crawl(final DataSource dataSource, final SchemaInfoLevel schemaInfoLevel) throws SchemaCrawlerException, SQLException {
-
-		Connection connection = null;
-		try {
-			connection = dataSource.getConnection();
-			return this.crawl(dataSource.getConnection(), schemaInfoLevel);
-		} finally {
-			if(connection != null && !connection.isClosed()) {
-				connection.close();
-			}
-		}
+		return this.crawl(CatalogSource.of(dataSource), null, null, SchemaCrawlerOptionBuilder.custom(schemaInfoLevel));
 	}
 
 	/**
@@ -124,15 +271,7 @@ public class SchemaCrawlerTemplate {
 	 * @throws SQLException Gets thrown when the database access error occurs
 	 */
 	public Catalog crawl(final DataSource dataSource, final InclusionRule schemaRule, final InclusionRule tableRule) throws SchemaCrawlerException, SQLException {
-		Connection connection = null;
-		try {
-			connection = dataSource.getConnection();
-			return this.crawl(dataSource.getConnection(), schemaRule, tableRule);
-		} finally {
-			if(connection != null && !connection.isClosed()) {
-				connection.close();
-			}
-		}
+		return this.crawl(CatalogSource.of(dataSource), null, null, this.getCrawlerOptions(schemaRule, tableRule));
 	}
 
 	/**
@@ -145,13 +284,7 @@ public class SchemaCrawlerTemplate {
 	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
 	 */
 	public Catalog crawl(final Connection connection, String dbType) throws SchemaCrawlerException {
-		try {
-	    	final SchemaCrawlerOptions options = getCrawlerOptions(dbType);
-	        return SchemaCrawlerUtility.getCatalog(connection, options);
-	    } catch (SchemaCrawlerException e) {
-	        LOGGER.error("Schema crawling failed with exception", e);
-	        throw e;
-	    }
+		return this.crawlQuietly(CatalogSource.of(connection), dbType, getCrawlerOptions(dbType));
 	}
 
 	/**
@@ -159,7 +292,8 @@ public class SchemaCrawlerTemplate {
 	 * Starts the schema crawler and lets it crawl the given JDBC connection.
 	 *
 	 * @param connection The JDBC connection
-	 * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+	 * @param schemaRetrievalOptions Database-specific schema retrieval overrides, see {@link BulkRetrieval#of(Connection)}
+	 *        for set-based data dictionary retrieval
      * @param schemaCrawlerOptions SchemaCrawler options
 	 * @return The populated {@link Catalog} object containing the metadata for the extractor
 	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
@@ -168,20 +302,7 @@ public class SchemaCrawlerTemplate {
 	public Catalog crawl(final Connection connection,
             final SchemaRetrievalOptions schemaRetrievalOptions,
             final SchemaCrawlerOptions schemaCrawlerOptions) throws SchemaCrawlerException, SQLException {
-		try {
-
-			DatabaseUtility.checkConnection(connection);
-		    if (LOGGER.isDebugEnabled()) {
-		    	LOGGER.debug(ObjectToString.toString(schemaCrawlerOptions));
-		    }
-
-			final SchemaCrawler schemaCrawler = new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions);
-			final Catalog catalog = schemaCrawler.crawl();
-			return catalog;
-	    } catch (SchemaCrawlerException e) {
-	        LOGGER.error("Schema crawling failed with exception", e);
-	        throw e;
-	    }
+		return this.crawl(CatalogSource.of(connection), null, schemaRetrievalOptions, schemaCrawlerOptions);
 	}
 
 	/**
@@ -208,13 +329,7 @@ public class SchemaCrawlerTemplate {
 	 * @throws SchemaCrawlerException Gets thrown when the database access error occurs
 	 */
 	public Catalog crawl(final Connection connection, final SchemaInfoLevel schemaInfoLevel) throws SchemaCrawlerException {
-	    try {
-	    	final SchemaCrawlerOptions options = SchemaCrawlerOptionBuilder.custom(schemaInfoLevel);
-	        return SchemaCrawlerUtility.getCatalog(connection, options);
-	    } catch (SchemaCrawlerException e) {
-	        LOGGER.error("Schema crawling failed with exception", e);
-	        throw e;
-	    }
+		return this.crawlQuietly(CatalogSource.of(connection), null, SchemaCrawlerOptionBuilder.custom(schemaInfoLevel));
 	}
 
 	/**
@@ -229,22 +344,7 @@ public class SchemaCrawlerTemplate {
 	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
 	 */
 	public Catalog crawl(final Connection connection, final InclusionRule schemaRule, final InclusionRule tableRule) throws SchemaCrawlerException {
-
-		final LimitOptionsBuilder limitOptionsBuilder = LimitOptionsBuilder.builder()
-				// Set what details are required in the schema - this affects the
-				.routineTypes(Arrays.asList(RoutineType.procedure, RoutineType.unknown)) // RoutineType.function not supported by h2
-				.includeSchemas(schemaRule == null ? new IncludeAll() : schemaRule)
-				.includeTables(tableRule == null ? new IncludeAll() : tableRule);
-
-		final SchemaCrawlerOptions options = SchemaCrawlerOptionBuilder.standard()
-				.withLimitOptions( limitOptionsBuilder.toOptions());
-
-	    try {
-	        return SchemaCrawlerUtility.getCatalog(connection, options);
-	    } catch (SchemaCrawlerException e) {
-	        LOGGER.error("Schema crawling failed with exception", e);
-	        throw e;
-	    }
+		return this.crawlQuietly(CatalogSource.of(connection), null, this.getCrawlerOptions(schemaRule, tableRule));
 	}
 
 	/**
@@ -258,13 +358,7 @@ public class SchemaCrawlerTemplate {
 	 * @throws SQLException Gets thrown when the database access error occurs
 	 */
 	public Catalog crawl(final ConnectionProvider connectionProvider, final SchemaInfoLevel schemaInfoLevel) throws SchemaCrawlerException, SQLException {
-	    try {
-	    	final SchemaCrawlerOptions options = SchemaCrawlerOptionBuilder.custom(schemaInfoLevel);
-	        return SchemaCrawlerUtility.getCatalog(connectionProvider.getConnection(), options);
-	    } catch (SchemaCrawlerException e) {
-	        LOGGER.error("Schema crawling failed with exception", e);
-	        throw e;
-	    }
+		return this.crawl(CatalogSource.of(connectionProvider), null, null, SchemaCrawlerOptionBuilder.custom(schemaInfoLevel));
 	}
 
 	/**
@@ -280,6 +374,694 @@ public class SchemaCrawlerTemplate {
 	 * @throws SQLException Gets thrown when the database access error occurs
 	 */
 	public Catalog crawl(final ConnectionProvider connectionProvider, final InclusionRule schemaRule, final InclusionRule tableRule) throws SchemaCrawlerException, SQLException {
+		return this.crawl(CatalogSource.of(connectionProvider), null, null, this.getCrawlerOptions(schemaRule, tableRule));
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler and lets it crawl each schema of the given DataSource separately,
+	 * running up to {@link DatabaseSchemaCrawlerOptions#getParallelism()} crawls concurrently on the shared {@link CrawlExecutor}
+	 * and the calling thread, each on its own connection. Without a CrawlExecutor, the schemas are crawled one after the other.
+	 *
+	 * @param dataSource The DataSource
+	 * @param dbType The Database type.
+	 * @return The populated {@link Catalog} object of each schema, keyed by the full name of the schema
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 */
+	public Map<String, Catalog> crawlSchemas(final DataSource dataSource, String dbType) throws SchemaCrawlerException, SQLException {
+		return this.crawlSchemas(CatalogSource.of(dataSource), dbType);
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler and lets it crawl each schema of the given JDBC connection Provider separately,
+	 * running up to {@link DatabaseSchemaCrawlerOptions#getParallelism()} crawls concurrently on the shared {@link CrawlExecutor}
+	 * and the calling thread, each on its own connection. Without a CrawlExecutor, the schemas are crawled one after the other.
+	 *
+	 * @param connectionProvider The JDBC connection Provider
+	 * @param dbType The Database type.
+	 * @return The populated {@link Catalog} object of each schema, keyed by the full name of the schema
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 */
+	public Map<String, Catalog> crawlSchemas(final ConnectionProvider connectionProvider, String dbType) throws SchemaCrawlerException, SQLException {
+		return this.crawlSchemas(CatalogSource.of(connectionProvider), dbType);
+	}
+
+	protected Map<String, Catalog> crawlSchemas(final CatalogSource source, final String dbType) throws SchemaCrawlerException, SQLException {
+
+		final SchemaCrawlerOptions options = getCrawlerOptions(dbType);
+		final List<String> schemas = new ArrayList<String>();
+		for (Schema schema : this.crawl(source, null, null, SchemaCrawlerPartitions.schemasOnly(options)).getSchemas()) {
+			schemas.add(schema.getFullName());
+		}
+
+		final Map<String, Catalog> catalogs = new LinkedHashMap<String, Catalog>();
+		if (schemas.isEmpty()) {
+			return catalogs;
+		}
+		final DatabaseSchemaCrawlerOptions crawlerOptions = getDatabaseCrawlerOptions(dbType);
+		final int parallelism = Math.max(1, Math.min(schemas.size(), crawlerOptions == null ? 1 : crawlerOptions.getParallelism()));
+		// Each worker crawls the next schema not taken yet, the calling thread being one of them. The result of
+		// each schema is awaited rather than the workers, which do nothing once they start after the last schema was taken.
+		final AtomicInteger next = new AtomicInteger();
+		final List<CompletableFuture<Catalog>> crawled = new ArrayList<CompletableFuture<Catalog>>(schemas.size());
+		for (int i = 0; i < schemas.size(); i++) {
+			crawled.add(new CompletableFuture<Catalog>());
+		}
+		final Callable<Void> worker = () -> {
+			for (int i = next.getAndIncrement(); i < schemas.size(); i = next.getAndIncrement()) {
+				try {
+					crawled.get(i).complete(this.crawl(source, dbType, null, SchemaCrawlerPartitions.forSchema(options, schemas.get(i))));
+				} catch (Throwable e) {
+					crawled.get(i).completeExceptionally(e);
+					// Workers stop taking schemas once a crawl failed, the schemas not taken yet fail alike
+					for (int j = next.getAndSet(schemas.size()); j < schemas.size(); j++) {
+						crawled.get(j).completeExceptionally(e);
+					}
+				}
+			}
+			return null;
+		};
+		int helpers = 0;
+		try {
+			for (; helpers < parallelism - 1 && crawlExecutor != null; helpers++) {
+				this.submit(worker);
+			}
+		} catch (RejectedExecutionException e) {
+			// The shared executor is saturated, the workers already started and the calling thread carry on
+			LOGGER.debug("Crawling {} schemas with {} workers instead of {}", schemas.size(), helpers + 1, parallelism);
+		}
+		try {
+			worker.call();
+			CompletableFuture.allOf(crawled.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+			throw crawlFailure(e.getCause());
+		} catch (Exception e) {
+			throw crawlFailure(e);
+		}
+		for (int i = 0; i < schemas.size(); i++) {
+			catalogs.put(schemas.get(i), crawled.get(i).join());
+		}
+		return catalogs;
+	}
+
+	private static SchemaCrawlerException crawlFailure(final Throwable cause) throws SQLException {
+		if (cause instanceof SchemaCrawlerException) {
+			return (SchemaCrawlerException) cause;
+		}
+		if (cause instanceof SQLException) {
+			throw (SQLException) cause;
+		}
+		return new SchemaCrawlerException(cause.getMessage(), cause);
+	}
+
+	/**
+	 *
+	 * Crawls the tables of the database configured for the database type in batches, through its dedicated
+	 * metadata connection pool.
+	 *
+	 * @param dbType The Database type, whose {@link DatabaseSchemaCrawlerOptions} has a url
+	 * @param consumer The consumer of each crawled {@link Table}
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully, or has no url
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 * @see #crawlTables(DataSource, String, Consumer)
+	 */
+	public void crawlTables(final String dbType, final Consumer<Table> consumer) throws SchemaCrawlerException, SQLException {
+		this.crawlTables(getMetadataSource(dbType), dbType, consumer);
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler and lets it crawl the tables of the given DataSource in batches of
+	 * {@link DatabaseSchemaCrawlerOptions#getStreamBatchSize()}, passing each table with its columns to the consumer
+	 * as soon as its batch is retrieved. Tables already passed on are not retained, so memory use is bounded by the
+	 * batch size instead of the size of the database. Streamed crawls bypass the {@link CatalogCache}.
+	 *
+	 * @param dataSource The DataSource
+	 * @param dbType The Database type.
+	 * @param consumer The consumer of each crawled {@link Table}
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 */
+	public void crawlTables(final DataSource dataSource, final String dbType, final Consumer<Table> consumer) throws SchemaCrawlerException, SQLException {
+		this.crawlTables(CatalogSource.of(dataSource), dbType, consumer);
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler and lets it crawl the tables of the given JDBC connection Provider in batches,
+	 * passing each table with its columns to the consumer as soon as its batch is retrieved.
+	 *
+	 * @param connectionProvider The JDBC connection Provider
+	 * @param dbType The Database type.
+	 * @param consumer The consumer of each crawled {@link Table}
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 * @see #crawlTables(DataSource, String, Consumer)
+	 */
+	public void crawlTables(final ConnectionProvider connectionProvider, final String dbType, final Consumer<Table> consumer) throws SchemaCrawlerException, SQLException {
+		this.crawlTables(CatalogSource.of(connectionProvider), dbType, consumer);
+	}
+
+	protected void crawlTables(final CatalogSource source, final String dbType, final Consumer<Table> consumer) throws SchemaCrawlerException, SQLException {
+
+		final SchemaCrawlerOptions options = getCrawlerOptions(dbType);
+		final DatabaseSchemaCrawlerOptions crawlerOptions = getDatabaseCrawlerOptions(dbType);
+		final int batchSize = Math.max(1, crawlerOptions == null ? 100 : crawlerOptions.getStreamBatchSize());
+
+		final List<String> schemas = new ArrayList<String>();
+		for (Schema schema : this.doCrawl(source, dbType, null, SchemaCrawlerPartitions.schemasOnly(options)).getSchemas()) {
+			schemas.add(schema.getFullName());
+		}
+		for (String schema : schemas) {
+			final SchemaCrawlerOptions schemaOptions = SchemaCrawlerPartitions.forSchema(options, schema);
+			final Map<String, String> tables = new LinkedHashMap<String, String>();
+			for (Table table : this.doCrawl(source, dbType, null, SchemaCrawlerPartitions.tablesOnly(schemaOptions)).getTables()) {
+				tables.put(table.getName(), table.getFullName());
+			}
+			// Each batch is listed through the common prefix of its table names, instead of listing the whole schema again
+			for (List<String> batch : SchemaCrawlerPartitions.byNamePrefix(tables.keySet(), batchSize)) {
+				final List<String> fullNames = new ArrayList<String>();
+				for (String tableName : batch) {
+					fullNames.add(tables.get(tableName));
+				}
+				final Catalog catalog = this.doCrawl(source, dbType, null,
+						SchemaCrawlerPartitions.forTables(schemaOptions, fullNames, SchemaCrawlerPartitions.tableNamePattern(batch)));
+				for (Table table : catalog.getTables()) {
+					consumer.accept(table);
+				}
+			}
+		}
+	}
+
+	/**
+	 *
+	 * Streams the tables of the database configured for the database type to the output stream as
+	 * newline-delimited JSON, through its dedicated metadata connection pool.
+	 *
+	 * @param dbType The Database type, whose {@link DatabaseSchemaCrawlerOptions} has a url
+	 * @param out The output stream
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully, or has no url
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 * @throws IOException Gets thrown when the output could not be written
+	 * @see #exportTables(DataSource, String, OutputStream)
+	 */
+	public void exportTables(final String dbType, final OutputStream out) throws SchemaCrawlerException, SQLException, IOException {
+		this.exportTables(getMetadataSource(dbType), dbType, out);
+	}
+
+	/**
+	 *
+	 * Streams the tables of the given DataSource to the output stream as newline-delimited JSON, one object per
+	 * table with its columns, primary key, indexes and foreign keys. The output is written while the tables are
+	 * crawled in batches, and the stream is flushed but not closed.
+	 *
+	 * @param dataSource The DataSource
+	 * @param dbType The Database type.
+	 * @param out The output stream
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 * @throws IOException Gets thrown when the output could not be written
+	 * @see NdjsonTableWriter
+	 */
+	public void exportTables(final DataSource dataSource, final String dbType, final OutputStream out) throws SchemaCrawlerException, SQLException, IOException {
+		this.exportTables(CatalogSource.of(dataSource), dbType, out);
+	}
+
+	/**
+	 *
+	 * Streams the tables of the given JDBC connection Provider to the output stream as newline-delimited JSON.
+	 *
+	 * @param connectionProvider The JDBC connection Provider
+	 * @param dbType The Database type.
+	 * @param out The output stream
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 * @throws IOException Gets thrown when the output could not be written
+	 * @see #exportTables(DataSource, String, OutputStream)
+	 */
+	public void exportTables(final ConnectionProvider connectionProvider, final String dbType, final OutputStream out) throws SchemaCrawlerException, SQLException, IOException {
+		this.exportTables(CatalogSource.of(connectionProvider), dbType, out);
+	}
+
+	protected void exportTables(final CatalogSource source, final String dbType, final OutputStream out) throws SchemaCrawlerException, SQLException, IOException {
+		final NdjsonTableWriter writer = new NdjsonTableWriter(out);
+		try {
+			this.crawlTables(source, dbType, writer);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			writer.flush();
+		}
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler on the {@link CrawlExecutor} and lets it crawl the database configured for the
+	 * database type, through its dedicated metadata connection pool.
+	 *
+	 * @param dbType The Database type, whose {@link DatabaseSchemaCrawlerOptions} has a url
+	 * @return The future of the populated {@link Catalog} object containing the metadata for the extractor
+	 */
+	public CompletableFuture<Catalog> crawlAsync(final String dbType) {
+		return this.submit(() -> this.crawl(dbType));
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler on the {@link CrawlExecutor} and lets it crawl the given DataSource.
+	 *
+	 * @param dataSource The DataSource
+	 * @param dbType The Database type.
+	 * @return The future of the populated {@link Catalog} object containing the metadata for the extractor
+	 */
+	public CompletableFuture<Catalog> crawlAsync(final DataSource dataSource, final String dbType) {
+		return this.submit(() -> this.crawl(dataSource, dbType));
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler on the {@link CrawlExecutor} and lets it crawl the given DataSource.
+	 *
+	 * @param dataSource The DataSource
+	 * @param schemaInfoLevel The {@link SchemaInfoLevel} to be Descriptor for level of schema detail.
+	 * @return The future of the populated {@link Catalog} object containing the metadata for the extractor
+	 */
+	public CompletableFuture<Catalog> crawlAsync(final DataSource dataSource, final SchemaInfoLevel schemaInfoLevel) {
+		return this.submit(() -> this.crawl(dataSource, schemaInfoLevel));
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler on the {@link CrawlExecutor} and lets it crawl the given DataSource.
+	 *
+	 * @param dataSource The DataSource
+	 * @param schemaRule The {@link InclusionRule} to be passed to SchemaCrawler that specifies which schemas should be analyzed
+	 * @param tableRule  The {@link InclusionRule} to be passed to SchemaCrawler that specifies which tables should be analyzed.
+	 * @return The future of the populated {@link Catalog} object containing the metadata for the extractor
+	 */
+	public CompletableFuture<Catalog> crawlAsync(final DataSource dataSource, final InclusionRule schemaRule, final InclusionRule tableRule) {
+		return this.submit(() -> this.crawl(dataSource, schemaRule, tableRule));
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler on the {@link CrawlExecutor} and lets it crawl the given JDBC connection Provider.
+	 *
+	 * @param connectionProvider The JDBC connection Provider
+	 * @param schemaInfoLevel The {@link SchemaInfoLevel} to be Descriptor for level of schema detail.
+	 * @return The future of the populated {@link Catalog} object containing the metadata for the extractor
+	 */
+	public CompletableFuture<Catalog> crawlAsync(final ConnectionProvider connectionProvider, final SchemaInfoLevel schemaInfoLevel) {
+		return this.submit(() -> this.crawl(connectionProvider, schemaInfoLevel));
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler on the {@link CrawlExecutor} and lets it crawl the given JDBC connection Provider.
+	 *
+	 * @param connectionProvider The JDBC connection Provider
+	 * @param schemaRule The {@link InclusionRule} to be passed to SchemaCrawler that specifies which schemas should be analyzed
+	 * @param tableRule  The {@link InclusionRule} to be passed to SchemaCrawler that specifies which tables should be analyzed.
+	 * @return The future of the populated {@link Catalog} object containing the metadata for the extractor
+	 */
+	public CompletableFuture<Catalog> crawlAsync(final ConnectionProvider connectionProvider, final InclusionRule schemaRule, final InclusionRule tableRule) {
+		return this.submit(() -> this.crawl(connectionProvider, schemaRule, tableRule));
+	}
+
+	/**
+	 * Run a crawl on the {@link CrawlExecutor}; checked exceptions complete the future with a {@link CompletionException}.
+	 */
+	protected <T> CompletableFuture<T> submit(final Callable<T> crawl) {
+		if (crawlExecutor == null) {
+			throw new IllegalStateException("No CrawlExecutor configured");
+		}
+		final CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+			try {
+				return crawl.call();
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, crawlExecutor);
+		if (deadline != null) {
+			// Cancelling the future cancels the statements of the crawl
+			future.whenComplete((result, ex) -> {
+				if (future.isCancelled()) {
+					deadline.cancel();
+				}
+			});
+		}
+		return future;
+	}
+
+	/**
+	 * Crawl a source whose connection is owned by the caller, where only {@link SchemaCrawlerException} is declared.
+	 */
+	protected Catalog crawlQuietly(final CatalogSource source, final String dbType, final SchemaCrawlerOptions schemaCrawlerOptions) throws SchemaCrawlerException {
+		try {
+			return this.crawl(source, dbType, null, schemaCrawlerOptions);
+		} catch (SQLException e) {
+			throw new SchemaCrawlerException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 *
+	 * Starts the schema crawler and lets it crawl the given source, serving the {@link Catalog} from the
+	 * {@link CatalogCache} when one is configured. Concurrent crawls of the same database with the same
+	 * options share a single in-flight crawl. After a restart, the first crawl is served from the most
+	 * recent {@link CatalogSnapshotStore} snapshot while the catalog is refreshed in the background.
+	 *
+	 * @param source The source of the JDBC connection
+	 * @param dbType The Database type, or null if the crawl is not for a configured database type
+	 * @param schemaRetrievalOptions Database-specific schema retrieval overrides, or null to match them from the connection
+	 * @param schemaCrawlerOptions SchemaCrawler options
+	 * @return The populated {@link Catalog} object containing the metadata for the extractor
+	 * @throws SchemaCrawlerException Gets thrown when the database could not be crawled successfully
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 */
+	protected Catalog crawl(final CatalogSource source, final String dbType,
+			final SchemaRetrievalOptions schemaRetrievalOptions,
+			final SchemaCrawlerOptions schemaCrawlerOptions) throws SchemaCrawlerException, SQLException {
+
+		final CatalogCacheKey key = new CatalogCacheKey(source.getId(), fingerprint(dbType, schemaCrawlerOptions));
+		if (isCacheEnabled()) {
+			final Catalog catalog = catalogCache.get(key);
+			if (catalog != null) {
+				LOGGER.debug("Catalog {} served from cache", key);
+				listeners.onCacheHit(key);
+				return catalog;
+			}
+			listeners.onCacheMiss(key);
+		}
+		if (isSnapshotEnabled() && source.isPooled() && restored.add(key)) {
+			final Catalog snapshot = snapshotStore.load(key);
+			if (snapshot != null) {
+				if (isCacheEnabled()) {
+					catalogCache.put(key, snapshot);
+				}
+				snapshotStore.execute(() -> {
+					try {
+						this.load(key, source, dbType, schemaRetrievalOptions, schemaCrawlerOptions);
+					} catch (Exception e) {
+						LOGGER.warn("Catalog {} could not be refreshed after restoring its snapshot", key, e);
+					}
+				});
+				return snapshot;
+			}
+		}
+		return this.load(key, source, dbType, schemaRetrievalOptions, schemaCrawlerOptions);
+	}
+
+	private Catalog load(final CatalogCacheKey key, final CatalogSource source, final String dbType,
+			final SchemaRetrievalOptions schemaRetrievalOptions,
+			final SchemaCrawlerOptions schemaCrawlerOptions) throws SchemaCrawlerException, SQLException {
+		try {
+			return singleFlight.execute(key, () -> {
+				final String marker = this.detectChanges(source, dbType, schemaCrawlerOptions);
+				if (marker != null) {
+					final CatalogCache.Entry entry = catalogCache.getEntry(key);
+					if (entry != null && marker.equals(entry.getMarker())) {
+						final Catalog unchanged = catalogCache.renew(key);
+						if (unchanged != null) {
+							LOGGER.debug("Catalog {} is unchanged, skipped recrawl", key);
+							return unchanged;
+						}
+					}
+				}
+				final Catalog catalog = this.doCrawl(source, dbType, schemaRetrievalOptions, schemaCrawlerOptions);
+				if (isCacheEnabled()) {
+					catalogCache.put(key, catalog, marker);
+				}
+				if (isSnapshotEnabled() && source.isPooled()) {
+					snapshotStore.saveAsync(key, catalog);
+				}
+				return catalog;
+			});
+		} catch (SchemaCrawlerException e) {
+			throw e;
+		} catch (SQLException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new SchemaCrawlerException(e.getMessage(), e);
+		}
+	}
+
+	protected Catalog doCrawl(final CatalogSource source, final String dbType,
+			final SchemaRetrievalOptions schemaRetrievalOptions,
+			final SchemaCrawlerOptions schemaCrawlerOptions) throws SchemaCrawlerException, SQLException {
+		final CrawlContext context = new CrawlContext(dbType, schemaCrawlerOptions);
+		listeners.onCrawlStarted(context);
+		final CrawlScheduler.Permit permit;
+		try {
+			if (deadline != null) {
+				deadline.check();
+			}
+			permit = this.schedule(source, dbType);
+		} catch (SQLException | RuntimeException e) {
+			context.fail();
+			listeners.onCrawlFailed(context, e);
+			throwIfTimedOut(e);
+			throw e;
+		}
+		final Connection pooledConnection;
+		try {
+			pooledConnection = source.getConnection();
+		} catch (SQLException | RuntimeException e) {
+			permit.close();
+			context.fail();
+			listeners.onCrawlFailed(context, e);
+			throwIfTimedOut(e);
+			throw e;
+		}
+		Connection connection = tune(instrument(record(pooledConnection), context), dbType);
+		if (deadline != null) {
+			connection = deadline.apply(connection);
+		}
+		try {
+
+			DatabaseUtility.checkConnection(connection);
+		    if (LOGGER.isDebugEnabled()) {
+		    	LOGGER.debug(ObjectToString.toString(schemaCrawlerOptions));
+		    }
+
+		    final SchemaRetrievalOptions retrievalOptions = schemaRetrievalOptions != null ? schemaRetrievalOptions
+		    		: getSchemaRetrievalOptions(connection, dbType);
+		    final Catalog catalog;
+		    if (retrievalOptions == null) {
+				catalog = SchemaCrawlerUtility.getCatalog(connection, schemaCrawlerOptions);
+			} else {
+				final SchemaCrawler schemaCrawler = new SchemaCrawler(connection, retrievalOptions, schemaCrawlerOptions);
+				catalog = schemaCrawler.crawl();
+			}
+			context.complete(catalog);
+			report(context);
+			listeners.onCrawlCompleted(context);
+			return catalog;
+	    } catch (SchemaCrawlerException e) {
+	        LOGGER.error("Schema crawling failed with exception", e);
+	        context.fail();
+	        report(context);
+	        listeners.onCrawlFailed(context, e);
+	        throwIfTimedOut(e);
+	        throw e;
+	    } catch (SQLException | RuntimeException e) {
+	        context.fail();
+	        report(context);
+	        listeners.onCrawlFailed(context, e);
+	        throwIfTimedOut(e);
+	        throw e;
+	    } finally {
+			try {
+				source.release(pooledConnection);
+			} finally {
+				permit.close();
+			}
+		}
+	}
+
+	/**
+	 * @param dbType The Database type.
+	 * @return The source of the metadata connection pool of the database type
+	 * @throws SchemaCrawlerException Gets thrown when the database type has no url, or metadata pools are disabled
+	 */
+	protected CatalogSource getMetadataSource(final String dbType) throws SchemaCrawlerException {
+		final DataSource dataSource = metadataDataSources == null ? null
+				: metadataDataSources.getDataSource(getDatabaseCrawlerOptions(dbType));
+		if (dataSource == null) {
+			throw new SchemaCrawlerException("No metadata connection pool for database type " + dbType
+					+ ", configure its url and add HikariCP to the classpath");
+		}
+		return CatalogSource.of(dataSource);
+	}
+
+	/**
+	 * Wait until the source may be crawled by one more crawl, when a {@link CrawlScheduler} is configured. Crawls
+	 * of a connection owned by the caller do not borrow from a pool and are not limited.
+	 *
+	 * @param source The source of the JDBC connection
+	 * @param dbType The Database type, whose options may override the limit and queue timeout
+	 * @return The permit to close once the connection of the crawl is released
+	 * @throws SchemaCrawlerException Gets thrown when the crawl could not start within the queue timeout
+	 * @throws SQLException Gets thrown when the source could not be identified
+	 */
+	protected CrawlScheduler.Permit schedule(final CatalogSource source, final String dbType) throws SchemaCrawlerException, SQLException {
+		if (crawlScheduler == null || !source.isPooled()) {
+			return () -> {
+			};
+		}
+		final DatabaseSchemaCrawlerOptions crawlerOptions = getDatabaseCrawlerOptions(dbType);
+		Duration queueTimeout = crawlerOptions == null ? null : crawlerOptions.getQueueTimeout();
+		if (deadline != null) {
+			// Do not wait past the deadline of the crawl
+			final Duration timeout = queueTimeout == null ? properties.getScheduler().getQueueTimeout() : queueTimeout;
+			queueTimeout = deadline.remaining().compareTo(timeout) < 0 ? deadline.remaining() : timeout;
+		}
+		return crawlScheduler.acquire(source.getId(),
+				crawlerOptions == null ? null : crawlerOptions.getMaxConcurrentCrawls(), queueTimeout);
+	}
+
+	/**
+	 * @param e The failure of a crawl
+	 * @throws CrawlTimeoutException if the deadline of the crawl has passed, or the crawl was cancelled
+	 */
+	private void throwIfTimedOut(final Exception e) throws CrawlTimeoutException {
+		if (deadline == null || !deadline.isExpired() || e instanceof CrawlTimeoutException) {
+			return;
+		}
+		throw new CrawlTimeoutException(deadline.isCancelled() ? "Crawl cancelled"
+				: "Crawl did not complete within " + deadline.getTimeout(), deadline.isCancelled(), e);
+	}
+
+	/**
+	 * @param dbType The Database type, or null
+	 * @param schemaCrawlerOptions The options of the crawl
+	 * @return The precomputed fingerprint of the options snapshot of the Database type, if they are the options
+	 * of the crawl, otherwise the fingerprint of the options
+	 */
+	private String fingerprint(final String dbType, final SchemaCrawlerOptions schemaCrawlerOptions) {
+		final CrawlerOptionsSnapshot snapshot = getCrawlerOptionsSnapshot(dbType);
+		if (snapshot != null && snapshot.getOptions() == schemaCrawlerOptions) {
+			return snapshot.getFingerprint();
+		}
+		return SchemaCrawlerOptionFingerprint.of(schemaCrawlerOptions);
+	}
+
+	/**
+	 * Wrap the connection of a crawl so that its JDBC calls are recorded in the crawl context, when JDBC
+	 * instrumentation is enabled.
+	 *
+	 * @param connection The connection of the crawl
+	 * @param context The crawl context
+	 * @return The connection to crawl with
+	 */
+	protected Connection instrument(final Connection connection, final CrawlContext context) {
+		if (!properties.getInstrumentation().isEnabled()) {
+			return connection;
+		}
+		final JdbcRoundTripRecorder recorder = new JdbcRoundTripRecorder();
+		context.setRoundTrips(recorder);
+		return JdbcInstrumentation.wrap(connection, recorder);
+	}
+
+	/**
+	 * Wrap the connection of a crawl so that its metadata queries emit Java Flight Recorder events, when
+	 * JFR events are enabled.
+	 *
+	 * @param connection The connection of the crawl
+	 * @return The connection to crawl with
+	 */
+	protected Connection record(final Connection connection) {
+		if (!properties.getJfr().isEnabled()) {
+			return connection;
+		}
+		return JfrInstrumentation.wrap(connection);
+	}
+
+	/**
+	 * Apply the fetch size of the database type to the statements of a crawl, see {@link JdbcTuning}.
+	 *
+	 * @param connection The connection of the crawl
+	 * @param dbType The Database type.
+	 * @return The connection to crawl with
+	 */
+	protected Connection tune(final Connection connection, final String dbType) {
+		final DatabaseSchemaCrawlerOptions crawlerOptions = getDatabaseCrawlerOptions(dbType);
+		return JdbcTuning.apply(connection, JdbcTuning.resolve(dbType, crawlerOptions == null ? null : crawlerOptions.getTuning()));
+	}
+
+	private void report(final CrawlContext context) {
+		final JdbcRoundTripRecorder recorder = context.getRoundTrips();
+		if (recorder == null) {
+			return;
+		}
+		LOGGER.debug("Crawl of {} made {} JDBC calls in {} ms: {}", context.getDbType(), recorder.getTotalCalls(),
+				recorder.getTotalNanos() / 1000000, recorder.getStats());
+		for (JdbcCallStats stats : recorder.getRepeatedCalls(properties.getInstrumentation().getRepeatedCallThreshold())) {
+			LOGGER.warn("Crawl of {} called {} {} times ({} ms), typically once per table; consider retrievalMode BULK",
+					context.getDbType(), stats.getMethod(), stats.getCalls(), stats.getNanos() / 1000000);
+		}
+	}
+
+	/**
+	 * @param connection The JDBC connection
+	 * @param dbType The Database type.
+	 * @return The bulk retrieval options when the {@link RetrievalMode} of the database type is BULK, otherwise
+	 *         null to let SchemaCrawler match the retrieval options of the connection
+	 */
+	protected SchemaRetrievalOptions getSchemaRetrievalOptions(final Connection connection, final String dbType) {
+		final DatabaseSchemaCrawlerOptions crawlerOptions = getDatabaseCrawlerOptions(dbType);
+		if (crawlerOptions == null || !RetrievalMode.BULK.equals(crawlerOptions.getRetrievalMode())) {
+			return null;
+		}
+		return BulkRetrieval.of(connection);
+	}
+
+	/**
+	 * Read the change marker of the database when incremental refresh is enabled. The catalog model of
+	 * SchemaCrawler can not be modified outside a crawl, so a changed marker leads to a full recrawl,
+	 * while an unchanged marker lets the cached catalog be reused without crawling.
+	 *
+	 * @param source The source of the JDBC connection
+	 * @param dbType The Database type.
+	 * @param schemaCrawlerOptions The options of the crawl, whose schema inclusion rule selects the schemas to check
+	 * @return The change marker, or null if changes can not be detected
+	 * @throws SQLException Gets thrown when the database access error occurs
+	 */
+	protected String detectChanges(final CatalogSource source, final String dbType,
+			final SchemaCrawlerOptions schemaCrawlerOptions) throws SQLException {
+		if (!isCacheEnabled() || !properties.getCache().isIncrementalRefresh() || dbType == null) {
+			return null;
+		}
+		final DatabaseSchemaCrawlerOptions crawlerOptions = getDatabaseCrawlerOptions(dbType);
+		final String query = CatalogChangeDetector.getQuery(dbType, crawlerOptions == null ? null : crawlerOptions.getChangeDetectionQuery(),
+				schemaCrawlerOptions.getLimitOptions().get(DatabaseObjectRuleForInclusion.ruleForSchemaInclusion));
+		if (query == null) {
+			return null;
+		}
+		final Connection connection = source.getConnection();
+		try {
+			return CatalogChangeDetector.detect(connection, query);
+		} finally {
+			source.release(connection);
+		}
+	}
+
+	protected boolean isCacheEnabled() {
+		return cacheable && catalogCache != null;
+	}
+
+	protected boolean isSnapshotEnabled() {
+		return cacheable && snapshotStore != null;
+	}
+
+	protected SchemaCrawlerOptions getCrawlerOptions(final InclusionRule schemaRule, final InclusionRule tableRule) {
 
 		final LimitOptionsBuilder limitOptionsBuilder = LimitOptionsBuilder.builder()
 				// Set what details are required in the schema - this affects the
@@ -287,15 +1069,60 @@ public class SchemaCrawlerTemplate {
 				.includeSchemas(schemaRule == null ? new IncludeAll() : schemaRule)
 				.includeTables(tableRule == null ? new IncludeAll() : tableRule);
 
-		final SchemaCrawlerOptions options = SchemaCrawlerOptionBuilder.standard()
+		return SchemaCrawlerOptionBuilder.standard()
 				.withLimitOptions( limitOptionsBuilder.toOptions());
+	}
 
-	    try {
-	        return SchemaCrawlerUtility.getCatalog(connectionProvider.getConnection(), options);
-	    } catch (SchemaCrawlerException e) {
-	        LOGGER.error("Schema crawling failed with exception", e);
-	        throw e;
-	    }
+	public CatalogCache getCatalogCache() {
+		return catalogCache;
+	}
+
+	public void setCatalogCache(CatalogCache catalogCache) {
+		this.catalogCache = catalogCache;
+	}
+
+	public MetadataDataSources getMetadataDataSources() {
+		return metadataDataSources;
+	}
+
+	public void setMetadataDataSources(MetadataDataSources metadataDataSources) {
+		this.metadataDataSources = metadataDataSources;
+	}
+
+	public SchemaCrawlerOptionsRegistry getOptionsRegistry() {
+		return optionsRegistry;
+	}
+
+	public void setOptionsRegistry(SchemaCrawlerOptionsRegistry optionsRegistry) {
+		this.optionsRegistry = optionsRegistry;
+	}
+
+	public CrawlExecutor getCrawlExecutor() {
+		return crawlExecutor;
+	}
+
+	public void setCrawlExecutor(CrawlExecutor crawlExecutor) {
+		this.crawlExecutor = crawlExecutor;
+	}
+
+	public CrawlScheduler getCrawlScheduler() {
+		return crawlScheduler;
+	}
+
+	public void setCrawlScheduler(CrawlScheduler crawlScheduler) {
+		this.crawlScheduler = crawlScheduler;
+	}
+
+	public CrawlListeners getListeners() {
+		return listeners;
+	}
+
+	public CatalogSnapshotStore getSnapshotStore() {
+		return snapshotStore;
+	}
+
+	public SingleFlight<CatalogCacheKey, Catalog> getSingleFlight() {
+		return singleFlight;
 	}
 
 }
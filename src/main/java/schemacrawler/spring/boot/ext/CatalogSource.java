@@ -0,0 +1,129 @@
+package schemacrawler.spring.boot.ext;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.sql.DataSource;
+
+/**
+ * The origin of the connections used for a crawl, together with a stable identity
+ * ({@code jdbc url|username}) that is used to key cached catalogs.
+ * @author hiwepy
+ */
+public abstract class CatalogSource {
+
+	/** Resolved identities of DataSource / ConnectionProvider instances */
+	private static final Map<Object, String> IDENTITIES = Collections.synchronizedMap(new WeakHashMap<Object, String>());
+
+	public static CatalogSource of(final DataSource dataSource) {
+		return new PooledCatalogSource(dataSource) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				return dataSource.getConnection();
+			}
+		};
+	}
+
+	public static CatalogSource of(final ConnectionProvider connectionProvider) {
+		return new PooledCatalogSource(connectionProvider) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				return connectionProvider.getConnection();
+			}
+		};
+	}
+
+	public static CatalogSource of(final Connection connection) {
+		return new CatalogSource() {
+
+			@Override
+			public String getId() throws SQLException {
+				return identity(connection);
+			}
+
+			@Override
+			public Connection getConnection() throws SQLException {
+				return connection;
+			}
+
+			@Override
+			public void release(Connection conn) throws SQLException {
+				// The connection is owned by the caller
+			}
+
+		};
+	}
+
+	/**
+	 * @return The stable identity of the database behind this source
+	 * @throws SQLException if a database error occurs.
+	 */
+	public abstract String getId() throws SQLException;
+
+	/**
+	 * @return the SQL connection object.
+	 * @throws SQLException if a database error occurs.
+	 */
+	public abstract Connection getConnection() throws SQLException;
+
+	/**
+	 * Release a connection obtained from {@link #getConnection()}.
+	 * @param connection the SQL connection object.
+	 * @throws SQLException if a database error occurs.
+	 */
+	public abstract void release(Connection connection) throws SQLException;
+
+	/**
+	 * @return true if connections can be obtained at any time, false if the source wraps a connection owned by the caller
+	 */
+	public boolean isPooled() {
+		return false;
+	}
+
+	protected static String identity(final Connection connection) throws SQLException {
+		final DatabaseMetaData metaData = connection.getMetaData();
+		return metaData.getURL() + "|" + metaData.getUserName();
+	}
+
+	private abstract static class PooledCatalogSource extends CatalogSource {
+
+		private final Object target;
+
+		PooledCatalogSource(Object target) {
+			this.target = target;
+		}
+
+		@Override
+		public String getId() throws SQLException {
+			String id = IDENTITIES.get(target);
+			if (id == null) {
+				final Connection connection = getConnection();
+				try {
+					id = identity(connection);
+				} finally {
+					release(connection);
+				}
+				IDENTITIES.put(target, id);
+			}
+			return id;
+		}
+
+		@Override
+		public void release(Connection connection) throws SQLException {
+			if (connection != null && !connection.isClosed()) {
+				connection.close();
+			}
+		}
+
+		@Override
+		public boolean isPooled() {
+			return true;
+		}
+
+	}
+
+}
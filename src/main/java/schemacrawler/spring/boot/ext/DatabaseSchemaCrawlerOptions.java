@@ -1,6 +1,9 @@
 package schemacrawler.spring.boot.ext;
 
+import java.time.Duration;
+
 import lombok.Data;
+import schemacrawler.spring.boot.ext.jdbc.JdbcTuningProperties;
 import schemacrawler.inclusionrule.IncludeAll;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
@@ -29,6 +32,22 @@ public class DatabaseSchemaCrawlerOptions {
 	private SchemaCrawlerOptions options = SchemaCrawlerOptionBuilder.tablecolumns(new IncludeAll());
 	/** 数据库Schema获取操作配置，扩展InclusionRule不方便设置问题 */
 	private SchemaCrawlerInclusionRules rules = new SchemaCrawlerInclusionRules();
+	/** 数据库结构变更检测SQL，返回的结果发生变化时才重新获取，${schemas} 替换为Schema包含规则；为空时使用内置的方言查询 */
+	private String changeDetectionQuery;
+	/** 按Schema并行获取时的最大并发数，每个并发占用一个独立连接 */
+	private int parallelism = 1;
+	/** 逐表流式获取时每批获取的表数量 */
+	private int streamBatchSize = 100;
+	/** 是否将简单的表名规则（完整名称或前缀）下推为元数据查询条件 */
+	private boolean pushdown = true;
+	/** 元数据获取方式：METADATA 逐表调用 DatabaseMetaData；BULK 使用数据库插件提供的数据字典查询批量获取 */
+	private RetrievalMode retrievalMode = RetrievalMode.METADATA;
+	/** 同一数据源允许同时进行的最大获取数，为空时使用 spring.schemacrawler.scheduler 的默认值 */
+	private Integer maxConcurrentCrawls;
+	/** 等待获取许可的最长时间，超时后拒绝本次获取；为空时使用默认值 */
+	private Duration queueTimeout;
+	/** 获取时使用的JDBC调优参数（fetchSize、Oracle defaultRowPrefetch 等），未设置的值使用方言的内置默认值 */
+	private JdbcTuningProperties tuning = new JdbcTuningProperties();
 
 	public DatabaseConnectionOptions toConnectionOptions() throws SchemaCrawlerException {
 		final DatabaseConnectionOptions connectionOptions = new DatabaseUrlConnectionOptions(getUrl());
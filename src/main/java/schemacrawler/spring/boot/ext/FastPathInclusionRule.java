@@ -0,0 +1,85 @@
+package schemacrawler.spring.boot.ext;
+
+import java.util.regex.Pattern;
+
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+
+/**
+ * Inclusion rule with the semantics of {@code RegularExpressionRule}, built from precompiled
+ * {@link NamePattern}s so that simple patterns avoid the regular expression engine. The regular expressions
+ * are still exposed, compiled on first use, so that {@code ${schemas}} is expanded in metadata queries.
+ * @author hiwepy
+ */
+public final class FastPathInclusionRule implements InclusionRuleWithRegularExpression {
+
+	private static final long serialVersionUID = 1L;
+
+	private final NamePattern include;
+	private final NamePattern exclude;
+	private transient volatile Pattern inclusionPattern;
+	private transient volatile Pattern exclusionPattern;
+
+	public FastPathInclusionRule(String patternInclude, String patternExclude) {
+		this.include = NamePattern.compile(patternInclude == null ? ".*" : patternInclude);
+		this.exclude = NamePattern.compile(patternExclude);
+	}
+
+	@Override
+	public boolean test(String text) {
+		if (text == null || text.trim().isEmpty()) {
+			return false;
+		}
+		return include.matches(text) && !exclude.matches(text);
+	}
+
+	@Override
+	public Pattern getInclusionPattern() {
+		Pattern pattern = inclusionPattern;
+		if (pattern == null) {
+			pattern = Pattern.compile(include.getRegex());
+			inclusionPattern = pattern;
+		}
+		return pattern;
+	}
+
+	@Override
+	public Pattern getExclusionPattern() {
+		Pattern pattern = exclusionPattern;
+		if (pattern == null) {
+			pattern = Pattern.compile(exclude.getRegex());
+			exclusionPattern = pattern;
+		}
+		return pattern;
+	}
+
+	public NamePattern getInclude() {
+		return include;
+	}
+
+	public NamePattern getExclude() {
+		return exclude;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof FastPathInclusionRule)) {
+			return false;
+		}
+		FastPathInclusionRule other = (FastPathInclusionRule) obj;
+		return include.getRegex().equals(other.include.getRegex()) && exclude.getRegex().equals(other.exclude.getRegex());
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * include.getRegex().hashCode() + exclude.getRegex().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "+/" + include + "/ -/" + exclude + "/";
+	}
+
+}
@@ -0,0 +1,117 @@
+package schemacrawler.spring.boot.ext;
+
+import java.io.Serializable;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled name pattern of an inclusion rule. Literal names, literal prefixes followed by
+ * {@code .*} and {@code .*} itself are matched without the regular expression engine.
+ * @author hiwepy
+ */
+public final class NamePattern implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private static final String ALL = ".*";
+	private static final String META_CHARACTERS = ".^$|?*+()[]{}\\";
+
+	public enum Kind {
+		/** Matches every name */
+		ALL,
+		/** Matches no name, the pattern is empty */
+		NONE,
+		/** Matches exactly one name */
+		LITERAL,
+		/** Matches the names starting with a literal prefix */
+		PREFIX,
+		/** Any other regular expression */
+		REGEX
+	}
+
+	private final String regex;
+	private final Kind kind;
+	/** The literal name or prefix, for {@link Kind#LITERAL} and {@link Kind#PREFIX} */
+	private final String literal;
+	private final Pattern pattern;
+
+	private NamePattern(String regex, Kind kind, String literal, Pattern pattern) {
+		this.regex = regex;
+		this.kind = kind;
+		this.literal = literal;
+		this.pattern = pattern;
+	}
+
+	public static NamePattern compile(String regex) {
+		if (regex == null || regex.isEmpty()) {
+			return new NamePattern("", Kind.NONE, null, null);
+		}
+		if (ALL.equals(regex)) {
+			return new NamePattern(regex, Kind.ALL, null, null);
+		}
+		String literal = unescape(regex);
+		if (literal != null) {
+			return new NamePattern(regex, Kind.LITERAL, literal, null);
+		}
+		if (regex.endsWith(ALL)) {
+			literal = unescape(regex.substring(0, regex.length() - ALL.length()));
+			if (literal != null && !literal.isEmpty()) {
+				return new NamePattern(regex, Kind.PREFIX, literal, null);
+			}
+		}
+		return new NamePattern(regex, Kind.REGEX, null, Pattern.compile(regex));
+	}
+
+	public boolean matches(String name) {
+		switch (kind) {
+		case ALL:
+			return true;
+		case NONE:
+			return name.isEmpty();
+		case LITERAL:
+			return literal.equals(name);
+		case PREFIX:
+			return name.startsWith(literal);
+		default:
+			return pattern.matcher(name).matches();
+		}
+	}
+
+	public String getRegex() {
+		return regex;
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	public String getLiteral() {
+		return literal;
+	}
+
+	@Override
+	public String toString() {
+		return regex;
+	}
+
+	/**
+	 * @return The literal text of a regular expression without unescaped meta characters, or null
+	 */
+	private static String unescape(String regex) {
+		final StringBuilder literal = new StringBuilder(regex.length());
+		for (int i = 0; i < regex.length(); i++) {
+			final char c = regex.charAt(i);
+			if (c == '\\') {
+				// only escaped punctuation is literal, \d, \w, \Q etc. are not
+				if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+					return null;
+				}
+				literal.append(regex.charAt(++i));
+			} else if (META_CHARACTERS.indexOf(c) >= 0) {
+				return null;
+			} else {
+				literal.append(c);
+			}
+		}
+		return literal.toString();
+	}
+
+}
@@ -0,0 +1,10 @@
+package schemacrawler.spring.boot.ext;
+
+public enum RetrievalMode {
+
+	/** Per-table {@code DatabaseMetaData} calls, the SchemaCrawler default */
+	METADATA,
+	/** One set-based data dictionary query per kind of object, where the database plugin provides one */
+	BULK;
+
+}
@@ -1,14 +1,24 @@
 package schemacrawler.spring.boot.ext;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import schemacrawler.inclusionrule.ExcludeAll;
 import schemacrawler.inclusionrule.IncludeAll;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.inclusionrule.RegularExpressionRule;
 
 public class SchemaCrawlerInclusionRule {
 
 	private final static String ALL = ".*";
 	private final static String NONE = "";
+	private final static InclusionRule INCLUDE_ALL = new IncludeAll();
+	private final static InclusionRule EXCLUDE_ALL = new ExcludeAll();
+	/** Upper bound of cached rules, patterns beyond it are compiled per call */
+	private final static int MAX_RULES = 256;
+	/** Compiled rules, keyed by (type, include, exclude) */
+	private final static ConcurrentMap<List<Object>, InclusionRule> RULES = new ConcurrentHashMap<List<Object>, InclusionRule>();
 	
 	/** Inclusion Rule Type */
 	private RuleType type = RuleType.DEFAULT;
@@ -41,13 +51,24 @@ public class SchemaCrawlerInclusionRule {
 		this.patternExclude = patternExclude;
 	}
 
+	/**
+	 * @return The compiled {@link InclusionRule}, shared by all rules of the same type and patterns
+	 */
 	public InclusionRule inclusionRule() {
 		if(RuleType.INCLUDE_ALL.equals(getType())) {
-			return new IncludeAll();
+			return INCLUDE_ALL;
 		}else if(RuleType.EXCLUDE_ALL.equals(getType())) {
-			return new ExcludeAll();
+			return EXCLUDE_ALL;
 		}else if(RuleType.REGULAR_EXPRESSION.equals(getType())) {
-			return new RegularExpressionRule(getPatternInclude(), getPatternExclude());
+			final List<Object> key = Arrays.<Object>asList(getType(), getPatternInclude(), getPatternExclude());
+			final InclusionRule rule = RULES.get(key);
+			if (rule != null) {
+				return rule;
+			}
+			if (RULES.size() >= MAX_RULES) {
+				return new FastPathInclusionRule(getPatternInclude(), getPatternExclude());
+			}
+			return RULES.computeIfAbsent(key, k -> new FastPathInclusionRule(getPatternInclude(), getPatternExclude()));
 		}
 		return null;
 	}
@@ -0,0 +1,190 @@
+package schemacrawler.spring.boot.ext.actuate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.util.StringUtils;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.spring.boot.SchemaCrawlerProperties;
+import schemacrawler.spring.boot.SchemaCrawlerTemplate;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.cache.CatalogCache;
+import schemacrawler.spring.boot.ext.cache.CatalogCacheKey;
+import schemacrawler.spring.boot.ext.concurrent.CrawlScheduler;
+import schemacrawler.spring.boot.ext.listener.CrawlStatsListener;
+import schemacrawler.spring.boot.ext.registry.CrawlerOptionsSnapshot;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionFingerprint;
+
+/**
+ * Actuator endpoint {@code /actuator/schemacrawler}: the configured database types, the most
+ * recent crawl of each, the cached catalogs and the crawls in progress. {@code POST
+ * /actuator/schemacrawler/{dbType}} recrawls a database type, {@code DELETE} evicts its cached
+ * catalogs, or all cached catalogs without a database type.
+ * @author hiwepy
+ */
+@Endpoint(id = "schemacrawler")
+public class SchemaCrawlerEndpoint {
+
+	private static final String MASK = "******";
+	/** Credential properties of JDBC urls, such as {@code ;password=} or {@code ?pwd=} */
+	private static final Pattern URL_PROPERTIES = Pattern.compile("(?i)((?:password|pwd|secret|token)[^=;&?:]*=)[^;&?]*");
+	/** User info of JDBC urls, such as {@code //user:password@host} */
+	private static final Pattern URL_USER_INFO = Pattern.compile("(//[^/@:]+:)[^@/]*@");
+	/** Oracle thin credentials, such as {@code thin:user/password@host} */
+	private static final Pattern URL_THIN = Pattern.compile("(?i)(:thin:[^/@:]*/)[^@]*@");
+
+	private final SchemaCrawlerProperties properties;
+	private final SchemaCrawlerTemplate template;
+	private final CrawlStatsListener stats;
+	private final DataSource dataSource;
+
+	/**
+	 * @param dataSource The application DataSource, crawled by refreshes of database types without a url, may be null
+	 */
+	public SchemaCrawlerEndpoint(SchemaCrawlerProperties properties, SchemaCrawlerTemplate template,
+			CrawlStatsListener stats, DataSource dataSource) {
+		this.properties = properties;
+		this.template = template;
+		this.stats = stats;
+		this.dataSource = dataSource;
+	}
+
+	@ReadOperation
+	public Map<String, Object> status() {
+		final Map<String, Object> status = new LinkedHashMap<String, Object>();
+
+		final List<Map<String, Object>> crawlerOptions = new ArrayList<Map<String, Object>>();
+		for (DatabaseSchemaCrawlerOptions options : properties.getCrawlerOptions()) {
+			final Map<String, Object> entry = new LinkedHashMap<String, Object>();
+			entry.put("type", options.getType());
+			entry.put("url", sanitize(options.getUrl()));
+			entry.put("retrievalMode", options.getRetrievalMode());
+			entry.put("fingerprint", fingerprint(options.getType()));
+			crawlerOptions.add(entry);
+		}
+		status.put("crawlerOptions", crawlerOptions);
+		status.put("lastCrawls", stats.getLastCrawls());
+
+		final Map<String, Object> running = new LinkedHashMap<String, Object>();
+		running.put("crawls", stats.getRunningCrawls());
+		running.put("inFlight", template.getSingleFlight().inFlight());
+		final CrawlScheduler scheduler = template.getCrawlScheduler();
+		if (scheduler != null) {
+			running.put("queued", scheduler.getQueueDepth());
+			running.put("rejected", scheduler.getRejections());
+		}
+		status.put("running", running);
+
+		final CatalogCache cache = template.getCatalogCache();
+		if (cache != null) {
+			final List<Map<String, Object>> entries = new ArrayList<Map<String, Object>>();
+			final long now = System.currentTimeMillis();
+			for (CatalogCache.Entry cached : cache.entries()) {
+				final Map<String, Object> entry = new LinkedHashMap<String, Object>();
+				entry.put("source", sanitize(cached.getKey().getSource()));
+				entry.put("fingerprint", cached.getKey().getFingerprint());
+				entry.put("ageMillis", now - cached.getCreatedAt());
+				entry.put("weight", cached.getWeight());
+				entry.put("expired", cache.isExpired(cached));
+				entries.add(entry);
+			}
+			final Map<String, Object> cacheStatus = new LinkedHashMap<String, Object>();
+			cacheStatus.put("size", cache.size());
+			cacheStatus.put("weight", cache.weight());
+			cacheStatus.put("entries", entries);
+			status.put("cache", cacheStatus);
+		}
+		return status;
+	}
+
+	/**
+	 * Evict the cached catalogs of the database type and crawl it again.
+	 */
+	@WriteOperation
+	public Map<String, Object> refresh(@Selector String dbType) throws Exception {
+		final int evicted = evict(dbType);
+		final DatabaseSchemaCrawlerOptions options = template.getDatabaseCrawlerOptions(dbType);
+		final long start = System.nanoTime();
+		final Catalog catalog;
+		if (options != null && StringUtils.hasText(options.getUrl())) {
+			catalog = template.crawl(dbType);
+		} else if (dataSource != null) {
+			catalog = template.crawl(dataSource, dbType);
+		} else {
+			throw new IllegalStateException("No DataSource to crawl " + dbType);
+		}
+		final Map<String, Object> result = new LinkedHashMap<String, Object>();
+		result.put("evicted", evicted);
+		result.put("tables", catalog.getTables().size());
+		result.put("durationMillis", (System.nanoTime() - start) / 1000000);
+		return result;
+	}
+
+	/**
+	 * @return The number of evicted catalogs of the database type
+	 */
+	@DeleteOperation
+	public int evict(@Selector String dbType) {
+		final CatalogCache cache = template.getCatalogCache();
+		if (cache == null) {
+			return 0;
+		}
+		final String fingerprint = fingerprint(dbType);
+		int evicted = 0;
+		for (CatalogCache.Entry entry : cache.entries()) {
+			final CatalogCacheKey key = entry.getKey();
+			if (key.getFingerprint().equals(fingerprint)) {
+				cache.evict(key);
+				if (template.getSnapshotStore() != null) {
+					template.getSnapshotStore().evict(key);
+				}
+				evicted++;
+			}
+		}
+		return evicted;
+	}
+
+	/**
+	 * @return The number of evicted catalogs
+	 */
+	@DeleteOperation
+	public int evictAll() {
+		final CatalogCache cache = template.getCatalogCache();
+		if (cache == null) {
+			return 0;
+		}
+		final int size = cache.size();
+		cache.evictAll();
+		return size;
+	}
+
+	/**
+	 * @param url A JDBC url, may be null
+	 * @return The url with the credentials it embeds masked
+	 */
+	public static String sanitize(String url) {
+		if (url == null) {
+			return null;
+		}
+		String sanitized = URL_PROPERTIES.matcher(url).replaceAll("$1" + MASK);
+		sanitized = URL_USER_INFO.matcher(sanitized).replaceAll("$1" + MASK + "@");
+		return URL_THIN.matcher(sanitized).replaceAll("$1" + MASK + "@");
+	}
+
+	private String fingerprint(String dbType) {
+		final CrawlerOptionsSnapshot snapshot = template.getCrawlerOptionsSnapshot(dbType);
+		return snapshot != null ? snapshot.getFingerprint() : SchemaCrawlerOptionFingerprint.of(template.getCrawlerOptions(dbType));
+	}
+
+}
@@ -0,0 +1,198 @@
+package schemacrawler.spring.boot.ext.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.spring.boot.ext.listener.CrawlListener;
+
+/**
+ * In-memory cache of crawled catalogs with time-to-live, size-based and weight-based
+ * (least recently used) eviction.
+ * @author hiwepy
+ */
+public class CatalogCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CatalogCache.class);
+
+	private final CatalogCacheProperties properties;
+	/** Access ordered, so that iteration starts from the least recently used entry */
+	private final LinkedHashMap<CatalogCacheKey, Entry> entries = new LinkedHashMap<CatalogCacheKey, Entry>(16, 0.75f, true);
+	private long weight;
+	private CrawlListener listener = new CrawlListener() {
+	};
+
+	public CatalogCache(CatalogCacheProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * @param listener The listener notified of evictions
+	 */
+	public void setListener(CrawlListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * @param key The cache key
+	 * @return The cached Catalog, or null if absent or expired
+	 */
+	public synchronized Catalog get(CatalogCacheKey key) {
+		final Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (isExpired(entry)) {
+			// Expired entries are kept for incremental refresh until they are recrawled or evicted
+			if (!properties.isIncrementalRefresh()) {
+				remove(key, "expired");
+			}
+			return null;
+		}
+		return entry.getCatalog();
+	}
+
+	/**
+	 * @param key The cache key
+	 * @return The cache entry even if it has expired, so that its change marker can be compared
+	 */
+	public synchronized Entry getEntry(CatalogCacheKey key) {
+		return entries.get(key);
+	}
+
+	public void put(CatalogCacheKey key, Catalog catalog) {
+		this.put(key, catalog, null);
+	}
+
+	/**
+	 * @param key The cache key
+	 * @param catalog The crawled catalog
+	 * @param marker The change marker read before the catalog was crawled, may be null
+	 */
+	public synchronized void put(CatalogCacheKey key, Catalog catalog, String marker) {
+		final Entry entry = new Entry(key, catalog, CatalogWeigher.weigh(catalog), System.currentTimeMillis(), marker);
+		final Entry previous = entries.put(key, entry);
+		if (previous != null) {
+			weight -= previous.getWeight();
+		}
+		weight += entry.getWeight();
+		evictOverflow();
+	}
+
+	/**
+	 * Restart the time-to-live of an entry whose catalog was found to be unchanged.
+	 * @param key The cache key
+	 * @return The catalog of the renewed entry, or null if it is no longer cached
+	 */
+	public synchronized Catalog renew(CatalogCacheKey key) {
+		final Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		entries.put(key, new Entry(key, entry.getCatalog(), entry.getWeight(), System.currentTimeMillis(), entry.getMarker()));
+		return entry.getCatalog();
+	}
+
+	public synchronized void evict(CatalogCacheKey key) {
+		remove(key, "evicted");
+	}
+
+	public synchronized void evictAll() {
+		entries.clear();
+		weight = 0;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long weight() {
+		return weight;
+	}
+
+	/**
+	 * @return A snapshot of the current entries, least recently used first
+	 */
+	public synchronized List<Entry> entries() {
+		return new ArrayList<Entry>(entries.values());
+	}
+
+	public boolean isExpired(Entry entry) {
+		final long ttl = properties.getTimeToLive() == null ? 0 : properties.getTimeToLive().toMillis();
+		return ttl > 0 && System.currentTimeMillis() - entry.getCreatedAt() > ttl;
+	}
+
+	private void evictOverflow() {
+		final Iterator<Map.Entry<CatalogCacheKey, Entry>> ite = entries.entrySet().iterator();
+		while (ite.hasNext() && isOverflow()) {
+			final Entry eldest = ite.next().getValue();
+			ite.remove();
+			weight -= eldest.getWeight();
+			LOG.debug("Catalog {} evicted from cache, weight {}", eldest.getKey(), eldest.getWeight());
+			listener.onCacheEviction(eldest.getKey(), "overflow");
+		}
+	}
+
+	private boolean isOverflow() {
+		if (properties.getMaxEntries() > 0 && entries.size() > properties.getMaxEntries()) {
+			return true;
+		}
+		// Always keep the most recent entry, even when it alone exceeds the max weight
+		return properties.getMaxWeight() > 0 && weight > properties.getMaxWeight() && entries.size() > 1;
+	}
+
+	private Entry remove(CatalogCacheKey key, String reason) {
+		final Entry entry = entries.remove(key);
+		if (entry != null) {
+			weight -= entry.getWeight();
+			LOG.debug("Catalog {} {} from cache", key, reason);
+			listener.onCacheEviction(key, reason);
+		}
+		return entry;
+	}
+
+	public static class Entry {
+
+		private final CatalogCacheKey key;
+		private final Catalog catalog;
+		private final long weight;
+		private final long createdAt;
+		private final String marker;
+
+		Entry(CatalogCacheKey key, Catalog catalog, long weight, long createdAt, String marker) {
+			this.key = key;
+			this.catalog = catalog;
+			this.weight = weight;
+			this.createdAt = createdAt;
+			this.marker = marker;
+		}
+
+		public CatalogCacheKey getKey() {
+			return key;
+		}
+
+		public Catalog getCatalog() {
+			return catalog;
+		}
+
+		public long getWeight() {
+			return weight;
+		}
+
+		public long getCreatedAt() {
+			return createdAt;
+		}
+
+		public String getMarker() {
+			return marker;
+		}
+
+	}
+
+}
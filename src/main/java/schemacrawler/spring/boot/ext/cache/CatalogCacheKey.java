@@ -0,0 +1,50 @@
+package schemacrawler.spring.boot.ext.cache;
+
+import java.util.Objects;
+
+/**
+ * Cache key of a crawled catalog: the identity of the database plus a fingerprint of
+ * the effective SchemaCrawlerOptions.
+ * @author hiwepy
+ */
+public final class CatalogCacheKey {
+
+	private final String source;
+	private final String fingerprint;
+
+	public CatalogCacheKey(String source, String fingerprint) {
+		this.source = Objects.requireNonNull(source, "No source provided");
+		this.fingerprint = Objects.requireNonNull(fingerprint, "No fingerprint provided");
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CatalogCacheKey)) {
+			return false;
+		}
+		CatalogCacheKey other = (CatalogCacheKey) obj;
+		return source.equals(other.source) && fingerprint.equals(other.fingerprint);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * source.hashCode() + fingerprint.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return source + "#" + fingerprint;
+	}
+
+}
@@ -0,0 +1,21 @@
+package schemacrawler.spring.boot.ext.cache;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+@Data
+public class CatalogCacheProperties {
+
+	/** Enable the in-memory Catalog cache. */
+	private boolean enabled = false;
+	/** How long a crawled Catalog is served from the cache. */
+	private Duration timeToLive = Duration.ofMinutes(30);
+	/** Maximum number of cached catalogs. */
+	private int maxEntries = 16;
+	/** Maximum total weight of cached catalogs, estimated as number of catalog objects; 0 means unbounded. */
+	private long maxWeight = 0;
+	/** When an entry expires, compare the database change marker and only recrawl if the schema has changed. */
+	private boolean incrementalRefresh = false;
+
+}
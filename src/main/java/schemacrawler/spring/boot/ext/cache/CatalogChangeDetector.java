@@ -0,0 +1,129 @@
+package schemacrawler.spring.boot.ext.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+
+/**
+ * Reads a cheap, per-dialect change marker from the data dictionary. A cached catalog whose
+ * marker is unchanged is still current and does not need to be recrawled. As in the metadata queries
+ * of SchemaCrawler, {@code ${schemas}} in a query is replaced by the schema inclusion pattern of the crawl.
+ * @author hiwepy
+ */
+public final class CatalogChangeDetector {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CatalogChangeDetector.class);
+	private static final String SCHEMAS = "${schemas}";
+	private static final String ALL = ".*";
+
+	/** Built-in change detection queries, keyed by a fragment of the database type */
+	private static final Map<String, String> QUERIES = new LinkedHashMap<String, String>();
+
+	static {
+		QUERIES.put("oracle", "SELECT TO_CHAR(MAX(LAST_DDL_TIME), 'YYYYMMDDHH24MISS'), COUNT(*) FROM ALL_OBJECTS WHERE REGEXP_LIKE(OWNER, '${schemas}')");
+		QUERIES.put("sqlserver", "SELECT MAX(modify_date), COUNT(*) FROM sys.objects WHERE is_ms_shipped = 0");
+		// PostgreSQL keeps no DDL timestamps; DDL rewrites the catalog rows and so changes their xmin
+		QUERIES.put("postgresql", "SELECT (SELECT COUNT(*) FROM pg_catalog.pg_class), (SELECT MAX(xmin::text::bigint) FROM pg_catalog.pg_class), "
+				+ "(SELECT COUNT(*) FROM pg_catalog.pg_attribute), (SELECT MAX(xmin::text::bigint) FROM pg_catalog.pg_attribute)");
+		// HyperSQL keeps no DDL timestamps either; the names and types of the objects are digested instead
+		QUERIES.put("hsqldb", "SELECT TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME, DATA_TYPE, IS_NULLABLE FROM INFORMATION_SCHEMA.COLUMNS "
+				+ "UNION ALL SELECT CONSTRAINT_SCHEMA, TABLE_NAME, CONSTRAINT_NAME, CONSTRAINT_TYPE, NULL FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+				+ "UNION ALL SELECT ROUTINE_SCHEMA, SPECIFIC_NAME, ROUTINE_NAME, ROUTINE_TYPE, DATA_TYPE FROM INFORMATION_SCHEMA.ROUTINES "
+				+ "ORDER BY 1, 2, 3");
+	}
+
+	/**
+	 * @param dbType The Database type.
+	 * @param customQuery The change detection query configured for the database type, may be null
+	 * @param schemaRule The schema inclusion rule of the crawl, may be null
+	 * @return The change detection query, or null if the database type has none
+	 */
+	public static String getQuery(String dbType, String customQuery, InclusionRule schemaRule) {
+		final String query = getQuery(dbType, customQuery);
+		if (query == null || !query.contains(SCHEMAS)) {
+			return query;
+		}
+		String schemas = ALL;
+		if (schemaRule instanceof InclusionRuleWithRegularExpression) {
+			final String pattern = ((InclusionRuleWithRegularExpression) schemaRule).getInclusionPattern().pattern();
+			if (StringUtils.hasText(pattern)) {
+				schemas = pattern;
+			}
+		}
+		return query.replace(SCHEMAS, schemas);
+	}
+
+	private static String getQuery(String dbType, String customQuery) {
+		if (StringUtils.hasText(customQuery)) {
+			return customQuery;
+		}
+		if (!StringUtils.hasText(dbType)) {
+			return null;
+		}
+		final String type = dbType.toLowerCase(Locale.ENGLISH);
+		for (Map.Entry<String, String> entry : QUERIES.entrySet()) {
+			if (type.contains(entry.getKey())) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param connection The JDBC connection
+	 * @param query The change detection query
+	 * @return The digest of the values of all rows, or null if the query returned no rows or the marker could not be read
+	 */
+	public static String detect(Connection connection, String query) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is required on every Java platform
+			throw new IllegalStateException(e);
+		}
+		try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(query)) {
+			final int columnCount = rs.getMetaData().getColumnCount();
+			boolean empty = true;
+			while (rs.next()) {
+				empty = false;
+				for (int i = 1; i <= columnCount; i++) {
+					digest.update(String.valueOf(rs.getString(i)).getBytes(StandardCharsets.UTF_8));
+					digest.update((byte) '|');
+				}
+				digest.update((byte) '\n');
+			}
+			return empty ? null : toHex(digest.digest());
+		} catch (SQLException e) {
+			LOG.debug("Change marker could not be read, falling back to a full crawl: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		final StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
+	private CatalogChangeDetector() {
+		// Prevent instantiation
+	}
+
+}
@@ -0,0 +1,28 @@
+package schemacrawler.spring.boot.ext.cache;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+
+/**
+ * Estimates the size of a Catalog as the number of objects it holds.
+ * @author hiwepy
+ */
+public final class CatalogWeigher {
+
+	public static long weigh(final Catalog catalog) {
+		if (catalog == null) {
+			return 0;
+		}
+		long weight = 1 + catalog.getSchemas().size();
+		for (final Table table : catalog.getTables()) {
+			weight += 1 + table.getColumns().size() + table.getIndexes().size() + table.getForeignKeys().size();
+		}
+		weight += catalog.getRoutines().size() + catalog.getSequences().size() + catalog.getSynonyms().size();
+		return weight;
+	}
+
+	private CatalogWeigher() {
+		// Prevent instantiation
+	}
+
+}
@@ -0,0 +1,292 @@
+package schemacrawler.spring.boot.ext.codec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import schemacrawler.schema.Catalog;
+
+/**
+ * Compact encoding of crawled catalogs. The SchemaCrawler model classes are internal and only
+ * support Java serialization, so the codec keeps that object graph encoding and makes it compact:
+ * equal strings are written once and referenced afterwards, and the stream is optionally
+ * compressed. Streams written by plain {@link ObjectOutputStream} are read as well.
+ * <p>
+ * Only SchemaCrawler and JDK classes are deserialized, see {@link #ALLOWED_PACKAGES}, and the
+ * object graph is walked on dedicated threads with a large stack, since Java serialization recurses
+ * through the references between tables, columns and foreign keys.
+ * @author hiwepy
+ */
+public class CatalogCodec {
+
+	private static final int MAGIC = 0x53434354; // "SCCT"
+	private static final int VERSION = 1;
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final short SERIALIZATION_MAGIC = (short) 0xACED;
+	/** Packages of the classes a catalog may be made of, anything else in a stream is rejected */
+	private static final String[] ALLOWED_PACKAGES = { "schemacrawler.", "us.fatehi.", "java." };
+	/** Reserved, not committed, stack of the thread that writes or reads the object graph */
+	private static final long STACK_SIZE = 512L * 1024 * 1024;
+	/** Threads with a {@link #STACK_SIZE} stack, shared by all codecs and stopped when idle */
+	private static final ExecutorService DEEP_STACK = newDeepStackExecutor();
+
+	public enum Compression {
+		NONE, DEFLATE
+	}
+
+	private final Compression compression;
+
+	public CatalogCodec() {
+		this(Compression.DEFLATE);
+	}
+
+	public CatalogCodec(Compression compression) {
+		this.compression = compression == null ? Compression.NONE : compression;
+	}
+
+	/**
+	 * @param catalog The catalog to encode
+	 * @param out The stream to write to, left open
+	 * @throws IOException if the catalog could not be written
+	 */
+	public void write(Catalog catalog, OutputStream out) throws IOException {
+		onDeepStack(() -> {
+			writeCatalog(catalog, out);
+			return null;
+		});
+	}
+
+	private void writeCatalog(Catalog catalog, OutputStream out) throws IOException {
+		final DataOutputStream header = new DataOutputStream(out);
+		header.writeInt(MAGIC);
+		header.writeByte(VERSION);
+		header.writeByte(compression.ordinal());
+		header.flush();
+
+		final OutputStream unclosable = new FilterOutputStream(out) {
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				out.write(b, off, len);
+			}
+
+			@Override
+			public void close() throws IOException {
+				flush();
+			}
+		};
+		final Deflater deflater = compression == Compression.DEFLATE ? new Deflater(Deflater.BEST_SPEED) : null;
+		try (OutputStream body = deflater == null ? new BufferedOutputStream(unclosable, BUFFER_SIZE)
+				: new BufferedOutputStream(new DeflaterOutputStream(unclosable, deflater, BUFFER_SIZE), BUFFER_SIZE);
+				ObjectOutputStream objectOut = new StringTableObjectOutputStream(body)) {
+			objectOut.writeObject(catalog);
+		} finally {
+			if (deflater != null) {
+				deflater.end();
+			}
+		}
+	}
+
+	/**
+	 * @param in The stream to read from, left open
+	 * @return The decoded catalog
+	 * @throws IOException if the stream does not hold a readable catalog
+	 */
+	public Catalog read(InputStream in) throws IOException {
+		return onDeepStack(() -> readCatalog(in));
+	}
+
+	private Catalog readCatalog(InputStream in) throws IOException {
+		final BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+		buffered.mark(8);
+		final DataInputStream header = new DataInputStream(buffered);
+		if (header.readShort() == SERIALIZATION_MAGIC) {
+			// Plain Java serialization, as written by SerializationUtils or schemacrawler-offline
+			buffered.reset();
+			return readObject(buffered);
+		}
+		buffered.reset();
+		if (header.readInt() != MAGIC) {
+			throw new StreamCorruptedException("Not an encoded catalog");
+		}
+		final int version = header.readUnsignedByte();
+		if (version != VERSION) {
+			throw new StreamCorruptedException("Unsupported catalog encoding version " + version);
+		}
+		final int ordinal = header.readUnsignedByte();
+		if (ordinal >= Compression.values().length) {
+			throw new StreamCorruptedException("Unsupported catalog compression " + ordinal);
+		}
+		if (Compression.values()[ordinal] == Compression.NONE) {
+			return readObject(buffered);
+		}
+		final Inflater inflater = new Inflater();
+		try {
+			return readObject(new BufferedInputStream(new InflaterInputStream(buffered, inflater, BUFFER_SIZE), BUFFER_SIZE));
+		} finally {
+			inflater.end();
+		}
+	}
+
+	public byte[] encode(Catalog catalog) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+		write(catalog, out);
+		return out.toByteArray();
+	}
+
+	public Catalog decode(byte[] bytes) throws IOException {
+		return read(new ByteArrayInputStream(bytes));
+	}
+
+	public Compression getCompression() {
+		return compression;
+	}
+
+	private Catalog readObject(InputStream in) throws IOException {
+		// Not closed, the caller owns the underlying stream
+		final ObjectInputStream objectIn = new AllowListObjectInputStream(in);
+		try {
+			return (Catalog) objectIn.readObject();
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new IOException("Unreadable catalog: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Run the task on a thread with a {@link #STACK_SIZE} stack, and wait for it.
+	 */
+	private static <T> T onDeepStack(final IOTask<T> task) throws IOException {
+		if (Thread.currentThread() instanceof DeepStackThread) {
+			return task.call();
+		}
+		final Future<T> future = DEEP_STACK.submit(task::call);
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while encoding or decoding a catalog");
+		} catch (ExecutionException e) {
+			final Throwable failure = e.getCause();
+			if (failure instanceof IOException) {
+				throw (IOException) failure;
+			}
+			if (failure instanceof RuntimeException) {
+				throw (RuntimeException) failure;
+			}
+			if (failure instanceof Error) {
+				throw (Error) failure;
+			}
+			throw new IOException(failure);
+		}
+	}
+
+	private static ExecutorService newDeepStackExecutor() {
+		final AtomicInteger threadNumber = new AtomicInteger();
+		final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), runnable -> new DeepStackThread(runnable, "schemacrawler-codec-" + threadNumber.incrementAndGet()));
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static class DeepStackThread extends Thread {
+
+		DeepStackThread(Runnable runnable, String name) {
+			super(null, runnable, name, STACK_SIZE);
+			setDaemon(true);
+		}
+
+	}
+
+	private interface IOTask<T> {
+
+		T call() throws IOException;
+
+	}
+
+	/**
+	 * Resolves only classes of the {@link #ALLOWED_PACKAGES}, so that a planted snapshot file
+	 * cannot instantiate arbitrary serializable classes of the classpath.
+	 */
+	private static class AllowListObjectInputStream extends ObjectInputStream {
+
+		AllowListObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			String name = desc.getName();
+			// Arrays are named [[Lcom.example.Type; or [I for primitive arrays
+			final int dimensions = name.lastIndexOf('[') + 1;
+			if (dimensions > 0) {
+				name = name.charAt(dimensions) == 'L' ? name.substring(dimensions + 1, name.length() - 1) : "java.";
+			}
+			for (String allowed : ALLOWED_PACKAGES) {
+				if (name.startsWith(allowed)) {
+					return super.resolveClass(desc);
+				}
+			}
+			throw new InvalidClassException(desc.getName(), "Class not allowed in a catalog");
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+			throw new InvalidClassException("Proxy classes are not allowed in a catalog");
+		}
+
+	}
+
+	/**
+	 * Replaces equal strings by the first instance written, so that the serialization handle
+	 * table acts as a string table: column, type and schema names repeated across thousands of
+	 * tables are written once, and share a single instance once read back.
+	 */
+	private static class StringTableObjectOutputStream extends ObjectOutputStream {
+
+		private final Map<String, String> strings = new HashMap<String, String>();
+
+		StringTableObjectOutputStream(OutputStream out) throws IOException {
+			super(out);
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) throws IOException {
+			if (obj instanceof String) {
+				final String string = (String) obj;
+				final String previous = strings.putIfAbsent(string, string);
+				return previous == null ? string : previous;
+			}
+			return obj;
+		}
+
+	}
+
+}
@@ -0,0 +1,167 @@
+package schemacrawler.spring.boot.ext.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The time budget of a crawl. Statements created during the crawl get a query timeout of the
+ * remaining budget, every metadata call and statement execution first checks the deadline, and
+ * the open statements are cancelled once the deadline passes or the crawl is cancelled.
+ * {@code DatabaseMetaData} calls do not expose their statements, so a metadata call that is
+ * already running is only stopped by the driver, before the next call fails.
+ * @author hiwepy
+ */
+public class CrawlDeadline {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CrawlDeadline.class);
+	private static final ScheduledThreadPoolExecutor WATCHDOG = new ScheduledThreadPoolExecutor(1, runnable -> {
+		Thread thread = new Thread(runnable, "schemacrawler-deadline");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	static {
+		WATCHDOG.setRemoveOnCancelPolicy(true);
+	}
+
+	private final Duration timeout;
+	private final long deadlineNanos;
+	private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean watched = new AtomicBoolean();
+	private volatile boolean cancelled;
+
+	protected CrawlDeadline(Duration timeout) {
+		this.timeout = timeout;
+		this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+	}
+
+	/**
+	 * @param timeout The time budget, starting now
+	 * @return The deadline
+	 */
+	public static CrawlDeadline after(Duration timeout) {
+		return new CrawlDeadline(timeout);
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public long remainingNanos() {
+		return deadlineNanos - System.nanoTime();
+	}
+
+	public Duration remaining() {
+		return Duration.ofNanos(Math.max(0, remainingNanos()));
+	}
+
+	public boolean isExpired() {
+		return cancelled || remainingNanos() <= 0;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Cancel the crawl: the open statements are cancelled, and the next JDBC call of the crawl fails.
+	 */
+	public void cancel() {
+		cancelled = true;
+		cancelStatements();
+	}
+
+	/**
+	 * @throws SQLTimeoutException if the deadline has passed or the crawl was cancelled
+	 */
+	public void check() throws SQLTimeoutException {
+		if (isExpired()) {
+			throw new SQLTimeoutException(cancelled ? "Crawl cancelled" : "Crawl deadline of " + timeout + " exceeded");
+		}
+	}
+
+	/**
+	 * @param connection The connection of the crawl
+	 * @return The connection whose metadata calls and statements observe the deadline
+	 */
+	public Connection apply(final Connection connection) {
+		if (watched.compareAndSet(false, true)) {
+			WATCHDOG.schedule(this::cancelStatements, Math.max(0, remainingNanos()), TimeUnit.NANOSECONDS);
+		}
+		return (Connection) Proxy.newProxyInstance(CrawlDeadline.class.getClassLoader(), new Class<?>[] { Connection.class },
+				(proxy, method, args) -> {
+					final Object result = invoke(connection, method, args);
+					if (result instanceof DatabaseMetaData) {
+						return proxy(DatabaseMetaData.class, result, false);
+					}
+					if (result instanceof Statement) {
+						final Statement statement = (Statement) result;
+						statements.add(statement);
+						statement.setQueryTimeout(queryTimeoutSeconds());
+						final Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+								: result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+						return proxy(type, result, true);
+					}
+					return result;
+				});
+	}
+
+	/**
+	 * @return The remaining budget in whole seconds, at least one since zero means no timeout
+	 */
+	protected int queryTimeoutSeconds() {
+		final long seconds = (long) Math.ceil(Math.max(0, remainingNanos()) / 1e9);
+		return (int) Math.max(1, Math.min(Integer.MAX_VALUE, seconds));
+	}
+
+	private Object proxy(Class<?> type, Object target, boolean statement) {
+		return Proxy.newProxyInstance(CrawlDeadline.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			final String name = method.getName();
+			if (statement && "close".equals(name)) {
+				statements.remove(target);
+			} else if (statement && name.startsWith("execute")) {
+				check();
+				((Statement) target).setQueryTimeout(queryTimeoutSeconds());
+			} else if (!statement && method.getDeclaringClass() == DatabaseMetaData.class && name.startsWith("get")) {
+				check();
+			}
+			return invoke(target, method, args);
+		});
+	}
+
+	private void cancelStatements() {
+		for (Statement statement : statements) {
+			try {
+				statement.cancel();
+			} catch (SQLException | RuntimeException e) {
+				LOG.debug("Statement could not be cancelled: {}", e.getMessage());
+			}
+		}
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package schemacrawler.spring.boot.ext.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Executor of asynchronous crawls: virtual threads when running on a JDK that supports
+ * them, a bounded pool of platform threads otherwise.
+ * @author hiwepy
+ */
+public class CrawlExecutor implements Executor, DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CrawlExecutor.class);
+
+	private final ExecutorService executorService;
+	private final boolean virtual;
+
+	public CrawlExecutor(CrawlExecutorProperties properties) {
+		ExecutorService virtualThreads = properties.isVirtualThreads() ? newVirtualThreadPerTaskExecutor() : null;
+		this.virtual = virtualThreads != null;
+		this.executorService = virtual ? virtualThreads : newThreadPoolExecutor(properties);
+		LOG.debug("Crawls run on {} threads", virtual ? "virtual" : "platform");
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		executorService.execute(command);
+	}
+
+	public boolean isVirtual() {
+		return virtual;
+	}
+
+	@Override
+	public void destroy() {
+		executorService.shutdown();
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// JDK before 21, or preview features disabled
+			return null;
+		}
+	}
+
+	private static ExecutorService newThreadPoolExecutor(CrawlExecutorProperties properties) {
+		final AtomicInteger threadNumber = new AtomicInteger();
+		final int maxPoolSize = Math.max(1, properties.getMaxPoolSize());
+		// A ThreadPoolExecutor only grows past its core size once the queue is full, so the pool is sized
+		// by its core threads, which start on demand and stop when idle.
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxPoolSize, maxPoolSize,
+				60L, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(Math.max(1, properties.getQueueCapacity())), runnable -> {
+					Thread thread = new Thread(runnable, properties.getThreadNamePrefix() + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+}
@@ -0,0 +1,20 @@
+package schemacrawler.spring.boot.ext.concurrent;
+
+import lombok.Data;
+
+@Data
+public class CrawlExecutorProperties {
+
+	/** Run asynchronous crawls on virtual threads when the JDK supports them. */
+	private boolean virtualThreads = true;
+	/**
+	 * Maximum number of platform threads, when virtual threads are not used. Threads are started on demand, one
+	 * per crawl until the maximum is reached, and stop after 60 seconds without work.
+	 */
+	private int maxPoolSize = 8;
+	/** Number of crawls that wait for a platform thread once all are busy, further crawls are rejected. */
+	private int queueCapacity = 100;
+	/** Prefix of the crawl thread names. */
+	private String threadNamePrefix = "schemacrawler-";
+
+}
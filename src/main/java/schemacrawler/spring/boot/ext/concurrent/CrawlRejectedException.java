@@ -0,0 +1,17 @@
+package schemacrawler.spring.boot.ext.concurrent;
+
+import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
+
+/**
+ * Thrown when a crawl could not start within the queue timeout of the {@link CrawlScheduler},
+ * because the maximum number of crawls were running against the same DataSource.
+ * @author hiwepy
+ */
+@SuppressWarnings("serial")
+public class CrawlRejectedException extends SchemaCrawlerException {
+
+	public CrawlRejectedException(String message) {
+		super(message);
+	}
+
+}
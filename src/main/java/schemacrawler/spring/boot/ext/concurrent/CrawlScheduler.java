@@ -0,0 +1,121 @@
+package schemacrawler.spring.boot.ext.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
+
+/**
+ * Limits the number of crawls running at once against each DataSource, so that metadata bursts
+ * can not exhaust the connection pool of the application. Crawls beyond the limit wait in first
+ * come, first served order, and are rejected once the queue timeout has passed.
+ * @author hiwepy
+ */
+public class CrawlScheduler {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CrawlScheduler.class);
+	private static final Permit UNLIMITED = () -> {
+	};
+
+	private final CrawlSchedulerProperties properties;
+	private final ConcurrentMap<String, Semaphore> permits = new ConcurrentHashMap<String, Semaphore>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicInteger active = new AtomicInteger();
+	private final LongAdder waits = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+
+	public CrawlScheduler(CrawlSchedulerProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Wait for a crawl permit of the source.
+	 *
+	 * @param source The id of the DataSource
+	 * @param maxConcurrentCrawls The maximum number of concurrent crawls of the source, or null for the default.
+	 *        The limit is fixed by the first crawl of the source.
+	 * @param queueTimeout The maximum time to wait, or null for the default
+	 * @return The permit, to be closed when the crawl has released its connection
+	 * @throws SchemaCrawlerException if no permit was available within the timeout, or the thread was interrupted
+	 */
+	public Permit acquire(String source, Integer maxConcurrentCrawls, Duration queueTimeout) throws SchemaCrawlerException {
+		final int max = maxConcurrentCrawls == null ? properties.getMaxConcurrentCrawls() : maxConcurrentCrawls;
+		if (!properties.isEnabled() || max <= 0) {
+			return UNLIMITED;
+		}
+		final Duration timeout = queueTimeout == null ? properties.getQueueTimeout() : queueTimeout;
+		final Semaphore semaphore = permits.computeIfAbsent(source, key -> new Semaphore(max, true));
+
+		final long start = System.nanoTime();
+		queued.incrementAndGet();
+		final boolean acquired;
+		try {
+			acquired = semaphore.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SchemaCrawlerException("Interrupted while waiting to crawl " + source, e);
+		} finally {
+			queued.decrementAndGet();
+			waits.increment();
+			waitNanos.add(System.nanoTime() - start);
+		}
+		if (!acquired) {
+			rejections.increment();
+			throw new CrawlRejectedException("No crawl of " + source + " could start within " + timeout + ", "
+					+ max + " crawls are running");
+		}
+		active.incrementAndGet();
+		LOG.debug("Crawl of {} started after waiting {} ms", source, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return () -> {
+			active.decrementAndGet();
+			semaphore.release();
+		};
+	}
+
+	/**
+	 * @return The number of crawls waiting for a permit
+	 */
+	public int getQueueDepth() {
+		return queued.get();
+	}
+
+	/**
+	 * @return The number of crawls holding a permit
+	 */
+	public int getActiveCrawls() {
+		return active.get();
+	}
+
+	public long getWaitCount() {
+		return waits.sum();
+	}
+
+	/**
+	 * @return The total time crawls have waited for a permit, in nanoseconds
+	 */
+	public long getWaitNanos() {
+		return waitNanos.sum();
+	}
+
+	public long getRejections() {
+		return rejections.sum();
+	}
+
+	@FunctionalInterface
+	public interface Permit extends AutoCloseable {
+
+		@Override
+		void close();
+
+	}
+
+}
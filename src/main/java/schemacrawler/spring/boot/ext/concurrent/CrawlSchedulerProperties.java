@@ -0,0 +1,17 @@
+package schemacrawler.spring.boot.ext.concurrent;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+@Data
+public class CrawlSchedulerProperties {
+
+	/** Limit the number of concurrent crawls per DataSource, crawls are unlimited otherwise. */
+	private boolean enabled = false;
+	/** Default maximum number of concurrent crawls per DataSource, 0 or less for no limit. */
+	private int maxConcurrentCrawls = 2;
+	/** Default maximum time a crawl waits for its turn before it is rejected. */
+	private Duration queueTimeout = Duration.ofSeconds(30);
+
+}
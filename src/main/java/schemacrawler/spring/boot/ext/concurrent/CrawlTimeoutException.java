@@ -0,0 +1,26 @@
+package schemacrawler.spring.boot.ext.concurrent;
+
+import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
+
+/**
+ * Thrown when a crawl has run past its {@link CrawlDeadline}, or was cancelled.
+ * @author hiwepy
+ */
+@SuppressWarnings("serial")
+public class CrawlTimeoutException extends SchemaCrawlerException {
+
+	private final boolean cancelled;
+
+	public CrawlTimeoutException(String message, boolean cancelled, Throwable cause) {
+		super(message, cause);
+		this.cancelled = cancelled;
+	}
+
+	/**
+	 * @return true if the crawl was cancelled before its deadline
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+}
@@ -0,0 +1,54 @@
+package schemacrawler.spring.boot.ext.concurrent;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller runs the loader, the
+ * others wait for and share its result (or its failure).
+ * @author hiwepy
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<K, CompletableFuture<V>>();
+
+	public V execute(K key, Callable<V> loader) throws Exception {
+		final CompletableFuture<V> call = new CompletableFuture<V>();
+		final CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+		if (inFlight != null) {
+			try {
+				return inFlight.get();
+			} catch (ExecutionException e) {
+				final Throwable cause = e.getCause();
+				if (cause instanceof Exception) {
+					throw (Exception) cause;
+				}
+				throw (Error) cause;
+			}
+		}
+		try {
+			final V value = loader.call();
+			call.complete(value);
+			return value;
+		} catch (Exception | Error e) {
+			call.completeExceptionally(e);
+			throw e;
+		} finally {
+			calls.remove(key, call);
+		}
+	}
+
+	/**
+	 * @return The keys of the calls currently in flight
+	 */
+	public Set<K> inFlight() {
+		return Collections.unmodifiableSet(new HashSet<K>(calls.keySet()));
+	}
+
+}
@@ -0,0 +1,13 @@
+package schemacrawler.spring.boot.ext.export;
+
+import lombok.Data;
+
+@Data
+public class CatalogExportProperties {
+
+	/** Enable the newline-delimited JSON table export endpoint. */
+	private boolean enabled = false;
+	/** Servlet path of the export endpoint. */
+	private String path = "/schemacrawler/tables";
+
+}
@@ -0,0 +1,65 @@
+package schemacrawler.spring.boot.ext.export;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import schemacrawler.spring.boot.SchemaCrawlerTemplate;
+import schemacrawler.spring.boot.ext.ConnectionProvider;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+
+/**
+ * Downloads the tables of the database configured for the database type, through its metadata connection pool,
+ * or of the application database when the database type has no url, as newline-delimited JSON. The response has
+ * no content length, so it is sent with chunked transfer encoding while the tables are crawled.
+ * <pre>
+ * GET /schemacrawler/tables?dbType=oracle
+ * </pre>
+ * @author hiwepy
+ */
+@SuppressWarnings("serial")
+public class CatalogExportServlet extends HttpServlet {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CatalogExportServlet.class);
+
+	private final transient SchemaCrawlerTemplate template;
+	private final transient ConnectionProvider connectionProvider;
+
+	public CatalogExportServlet(SchemaCrawlerTemplate template, ConnectionProvider connectionProvider) {
+		this.template = template;
+		this.connectionProvider = connectionProvider;
+	}
+
+	@Override
+	protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		final String dbType = request.getParameter("dbType");
+		response.setContentType(NdjsonTableWriter.CONTENT_TYPE);
+		response.setCharacterEncoding("UTF-8");
+		try {
+			final DatabaseSchemaCrawlerOptions crawlerOptions = template.getDatabaseCrawlerOptions(dbType);
+			if (crawlerOptions != null && StringUtils.hasText(crawlerOptions.getUrl())) {
+				template.exportTables(dbType, response.getOutputStream());
+			} else {
+				template.exportTables(connectionProvider, dbType, response.getOutputStream());
+			}
+		} catch (Exception e) {
+			fail(response, dbType, e);
+		}
+	}
+
+	private void fail(HttpServletResponse response, String dbType, Exception e) throws IOException {
+		LOG.error("Table export of {} failed", dbType, e);
+		if (!response.isCommitted()) {
+			response.reset();
+			response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+		}
+		// Otherwise the truncated chunked response tells the client the export is incomplete
+	}
+
+}
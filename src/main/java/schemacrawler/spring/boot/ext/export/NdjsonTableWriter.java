@@ -0,0 +1,192 @@
+package schemacrawler.spring.boot.ext.export;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintColumn;
+
+/**
+ * Writes each table with its columns, primary key, indexes and imported foreign keys as one JSON
+ * object per line (newline-delimited JSON). Only the current line is ever buffered, so a table
+ * stream of any size can be exported with constant memory.
+ * @author hiwepy
+ */
+public class NdjsonTableWriter implements Consumer<Table>, Flushable {
+
+	public static final String CONTENT_TYPE = "application/x-ndjson";
+
+	private final Writer writer;
+
+	public NdjsonTableWriter(OutputStream out) {
+		this(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+	}
+
+	public NdjsonTableWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * @param table The table to write
+	 * @throws UncheckedIOException if the line could not be written
+	 */
+	@Override
+	public void accept(Table table) {
+		try {
+			write(table);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void write(Table table) throws IOException {
+		writer.write('{');
+		field("schema", table.getSchema().getFullName(), true);
+		field("name", table.getName(), false);
+		field("fullName", table.getFullName(), false);
+		field("type", table.getTableType() == null ? null : table.getTableType().toString(), false);
+		field("remarks", table.getRemarks(), false);
+
+		writer.write(",\"columns\":[");
+		for (Iterator<Column> ite = table.getColumns().iterator(); ite.hasNext();) {
+			final Column column = ite.next();
+			writer.write('{');
+			field("name", column.getName(), true);
+			field("type", column.getColumnDataType().getName(), false);
+			field("ordinal", column.getOrdinalPosition(), false);
+			field("size", column.getSize(), false);
+			field("decimalDigits", column.getDecimalDigits(), false);
+			field("nullable", column.isNullable(), false);
+			field("autoIncremented", column.isAutoIncremented(), false);
+			field("generated", column.isGenerated(), false);
+			field("defaultValue", column.getDefaultValue(), false);
+			field("remarks", column.getRemarks(), false);
+			writer.write('}');
+			separator(ite);
+		}
+		writer.write(']');
+
+		final PrimaryKey primaryKey = table.getPrimaryKey();
+		writer.write(",\"primaryKey\":");
+		if (primaryKey == null) {
+			writer.write("null");
+		} else {
+			writer.write('{');
+			field("name", primaryKey.getName(), true);
+			writer.write(",\"columns\":[");
+			for (Iterator<TableConstraintColumn> ite = primaryKey.getConstrainedColumns().iterator(); ite.hasNext();) {
+				string(ite.next().getName());
+				separator(ite);
+			}
+			writer.write("]}");
+		}
+
+		writer.write(",\"indexes\":[");
+		for (Iterator<Index> ite = table.getIndexes().iterator(); ite.hasNext();) {
+			final Index index = ite.next();
+			writer.write('{');
+			field("name", index.getName(), true);
+			field("unique", index.isUnique(), false);
+			writer.write(",\"columns\":[");
+			for (Iterator<IndexColumn> columns = index.getColumns().iterator(); columns.hasNext();) {
+				string(columns.next().getName());
+				separator(columns);
+			}
+			writer.write("]}");
+			separator(ite);
+		}
+		writer.write(']');
+
+		writer.write(",\"foreignKeys\":[");
+		for (Iterator<ForeignKey> ite = table.getImportedForeignKeys().iterator(); ite.hasNext();) {
+			final ForeignKey foreignKey = ite.next();
+			writer.write('{');
+			field("name", foreignKey.getName(), true);
+			writer.write(",\"columns\":[");
+			for (Iterator<ColumnReference> references = foreignKey.getColumnReferences().iterator(); references.hasNext();) {
+				final ColumnReference reference = references.next();
+				writer.write('{');
+				field("column", reference.getForeignKeyColumn().getName(), true);
+				field("referencedTable", reference.getPrimaryKeyColumn().getParent().getFullName(), false);
+				field("referencedColumn", reference.getPrimaryKeyColumn().getName(), false);
+				writer.write('}');
+				separator(references);
+			}
+			writer.write("]}");
+			separator(ite);
+		}
+		writer.write("]}\n");
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	private void field(String name, Object value, boolean first) throws IOException {
+		if (!first) {
+			writer.write(',');
+		}
+		string(name);
+		writer.write(':');
+		if (value == null) {
+			writer.write("null");
+		} else if (value instanceof Number || value instanceof Boolean) {
+			writer.write(value.toString());
+		} else {
+			string(value.toString());
+		}
+	}
+
+	private void separator(Iterator<?> ite) throws IOException {
+		if (ite.hasNext()) {
+			writer.write(',');
+		}
+	}
+
+	private void string(String value) throws IOException {
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				writer.write("\\\"");
+				break;
+			case '\\':
+				writer.write("\\\\");
+				break;
+			case '\n':
+				writer.write("\\n");
+				break;
+			case '\r':
+				writer.write("\\r");
+				break;
+			case '\t':
+				writer.write("\\t");
+				break;
+			default:
+				if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+					writer.write(String.format("\\u%04x", (int) c));
+				} else {
+					writer.write(c);
+				}
+			}
+		}
+		writer.write('"');
+	}
+
+}
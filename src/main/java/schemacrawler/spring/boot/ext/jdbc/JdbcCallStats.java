@@ -0,0 +1,61 @@
+package schemacrawler.spring.boot.ext.jdbc;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The number of calls of one JDBC method in a crawl, and the time spent in the calls and in
+ * fetching the rows of their result sets.
+ * @author hiwepy
+ */
+public class JdbcCallStats {
+
+	private final String method;
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder nanos = new LongAdder();
+
+	JdbcCallStats(String method) {
+		this.method = method;
+	}
+
+	void call(long elapsedNanos) {
+		calls.increment();
+		nanos.add(elapsedNanos);
+	}
+
+	void fetch(long elapsedNanos, boolean row) {
+		if (row) {
+			rows.increment();
+		}
+		nanos.add(elapsedNanos);
+	}
+
+	/**
+	 * @return The interface and name of the method, for example {@code DatabaseMetaData.getColumns}
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	public long getCalls() {
+		return calls.sum();
+	}
+
+	public long getRows() {
+		return rows.sum();
+	}
+
+	public long getNanos() {
+		return nanos.sum();
+	}
+
+	public boolean isMetadata() {
+		return method.startsWith("DatabaseMetaData.");
+	}
+
+	@Override
+	public String toString() {
+		return method + " calls=" + getCalls() + " rows=" + getRows() + " time=" + getNanos() / 1000000 + "ms";
+	}
+
+}
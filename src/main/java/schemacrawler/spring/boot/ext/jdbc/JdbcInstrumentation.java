@@ -0,0 +1,152 @@
+package schemacrawler.spring.boot.ext.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Wraps a JDBC connection in dynamic proxies that report every {@link DatabaseMetaData} call and
+ * statement execution to a {@link JdbcRoundTripRecorder}. The time spent fetching the rows of a
+ * returned {@link ResultSet} is added to the call that returned it.
+ * @author hiwepy
+ */
+public final class JdbcInstrumentation {
+
+	/**
+	 * @param connection The connection to instrument
+	 * @param recorder The recorder of the calls
+	 * @return The instrumented connection, closing it closes the given connection
+	 */
+	public static Connection wrap(Connection connection, JdbcRoundTripRecorder recorder) {
+		return proxy(Connection.class, new ConnectionHandler(connection, recorder));
+	}
+
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(JdbcInstrumentation.class.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static class ConnectionHandler implements InvocationHandler {
+
+		private final Connection target;
+		private final JdbcRoundTripRecorder recorder;
+
+		ConnectionHandler(Connection target, JdbcRoundTripRecorder recorder) {
+			this.target = target;
+			this.recorder = recorder;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final Object result = JdbcInstrumentation.invoke(target, method, args);
+			if (result instanceof DatabaseMetaData) {
+				return proxy(DatabaseMetaData.class, new RecordingHandler(result, "DatabaseMetaData.", recorder));
+			}
+			if (result instanceof CallableStatement) {
+				return proxy(CallableStatement.class, new RecordingHandler(result, "CallableStatement.", recorder));
+			}
+			if (result instanceof PreparedStatement) {
+				return proxy(PreparedStatement.class, new RecordingHandler(result, "PreparedStatement.", recorder));
+			}
+			if (result instanceof Statement) {
+				return proxy(Statement.class, new RecordingHandler(result, "Statement.", recorder));
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * Records the calls of a metadata or statement method that reach the database.
+	 */
+	private static class RecordingHandler implements InvocationHandler {
+
+		private final Object target;
+		private final String prefix;
+		private final JdbcRoundTripRecorder recorder;
+
+		RecordingHandler(Object target, String prefix, JdbcRoundTripRecorder recorder) {
+			this.target = target;
+			this.prefix = prefix;
+			this.recorder = recorder;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (!isRoundTrip(method)) {
+				return JdbcInstrumentation.invoke(target, method, args);
+			}
+			final String name = prefix + method.getName();
+			final long start = System.nanoTime();
+			try {
+				final Object result = JdbcInstrumentation.invoke(target, method, args);
+				if (result instanceof ResultSet) {
+					return proxy(ResultSet.class, new FetchHandler((ResultSet) result, name, recorder));
+				}
+				return result;
+			} finally {
+				recorder.call(name, System.nanoTime() - start);
+			}
+		}
+
+		private boolean isRoundTrip(Method method) {
+			if (target instanceof DatabaseMetaData) {
+				// Skip the identity methods of the proxy and the unwrap methods
+				return method.getDeclaringClass() == DatabaseMetaData.class && method.getName().startsWith("get")
+						&& !"getConnection".equals(method.getName());
+			}
+			return method.getName().startsWith("execute");
+		}
+
+	}
+
+	/**
+	 * Adds the time spent in {@link ResultSet#next()} to the call that returned the result set.
+	 */
+	private static class FetchHandler implements InvocationHandler {
+
+		private final ResultSet target;
+		private final String name;
+		private final JdbcRoundTripRecorder recorder;
+
+		FetchHandler(ResultSet target, String name, JdbcRoundTripRecorder recorder) {
+			this.target = target;
+			this.name = name;
+			this.recorder = recorder;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (!"next".equals(method.getName())) {
+				return JdbcInstrumentation.invoke(target, method, args);
+			}
+			final long start = System.nanoTime();
+			boolean row = false;
+			try {
+				row = target.next();
+				return row;
+			} finally {
+				recorder.fetch(name, System.nanoTime() - start, row);
+			}
+		}
+
+	}
+
+	private JdbcInstrumentation() {
+	}
+
+}
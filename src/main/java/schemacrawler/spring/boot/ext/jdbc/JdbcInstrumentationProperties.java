@@ -0,0 +1,13 @@
+package schemacrawler.spring.boot.ext.jdbc;
+
+import lombok.Data;
+
+@Data
+public class JdbcInstrumentationProperties {
+
+	/** Count and time every JDBC metadata call and statement of a crawl. */
+	private boolean enabled = false;
+	/** Number of calls of the same metadata method in one crawl that is reported as an N+1 pattern. */
+	private int repeatedCallThreshold = 50;
+
+}
@@ -0,0 +1,74 @@
+package schemacrawler.spring.boot.ext.jdbc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Aggregates the JDBC calls made through an {@link JdbcInstrumentation instrumented} connection
+ * during one crawl, per method.
+ * @author hiwepy
+ */
+public class JdbcRoundTripRecorder {
+
+	private final ConcurrentMap<String, JdbcCallStats> stats = new ConcurrentHashMap<String, JdbcCallStats>();
+
+	public void call(String method, long elapsedNanos) {
+		stats(method).call(elapsedNanos);
+	}
+
+	public void fetch(String method, long elapsedNanos, boolean row) {
+		stats(method).fetch(elapsedNanos, row);
+	}
+
+	/**
+	 * @return The statistics of every called method, most time consuming first
+	 */
+	public List<JdbcCallStats> getStats() {
+		final List<JdbcCallStats> list = new ArrayList<JdbcCallStats>(stats.values());
+		list.sort(Comparator.comparingLong(JdbcCallStats::getNanos).reversed());
+		return list;
+	}
+
+	public long getTotalCalls() {
+		long calls = 0;
+		for (JdbcCallStats stat : stats.values()) {
+			calls += stat.getCalls();
+		}
+		return calls;
+	}
+
+	public long getTotalNanos() {
+		long nanos = 0;
+		for (JdbcCallStats stat : stats.values()) {
+			nanos += stat.getNanos();
+		}
+		return nanos;
+	}
+
+	/**
+	 * @param threshold The number of calls from which a metadata method counts as repeated
+	 * @return The metadata methods called at least threshold times, typically once per table (N+1)
+	 */
+	public List<JdbcCallStats> getRepeatedCalls(int threshold) {
+		final List<JdbcCallStats> repeated = new ArrayList<JdbcCallStats>();
+		for (JdbcCallStats stat : getStats()) {
+			if (stat.isMetadata() && stat.getCalls() >= threshold) {
+				repeated.add(stat);
+			}
+		}
+		return repeated;
+	}
+
+	private JdbcCallStats stats(String method) {
+		return stats.computeIfAbsent(method, JdbcCallStats::new);
+	}
+
+	@Override
+	public String toString() {
+		return "calls=" + getTotalCalls() + " time=" + getTotalNanos() / 1000000 + "ms " + getStats();
+	}
+
+}
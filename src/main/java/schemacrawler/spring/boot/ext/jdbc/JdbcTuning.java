@@ -0,0 +1,125 @@
+package schemacrawler.spring.boot.ext.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-dialect JDBC tuning of crawl connections. Driver level settings, such as the Oracle row
+ * prefetch, are passed as driver properties to the dedicated metadata pools, where they also
+ * apply to {@code DatabaseMetaData} result sets. The fetch size is applied to every statement
+ * created during a crawl, without changing the connection, so that it is also safe for
+ * connections borrowed from the pool of the application.
+ * @author hiwepy
+ */
+public final class JdbcTuning {
+
+	/**
+	 * @param dbType The Database type, matched against the dialect names
+	 * @param tuning The configured tuning, may be null
+	 * @return The configured tuning, completed with the defaults of the dialect
+	 */
+	public static JdbcTuningProperties resolve(String dbType, JdbcTuningProperties tuning) {
+		final JdbcTuningProperties defaults = defaults(dbType);
+		if (tuning == null) {
+			return defaults;
+		}
+		final JdbcTuningProperties resolved = new JdbcTuningProperties();
+		resolved.setFetchSize(tuning.getFetchSize() != null ? tuning.getFetchSize() : defaults.getFetchSize());
+		resolved.setDefaultRowPrefetch(tuning.getDefaultRowPrefetch() != null ? tuning.getDefaultRowPrefetch() : defaults.getDefaultRowPrefetch());
+		resolved.setUseFetchSizeWithLongColumn(tuning.getUseFetchSizeWithLongColumn() != null ? tuning.getUseFetchSizeWithLongColumn()
+				: defaults.getUseFetchSizeWithLongColumn());
+		resolved.setReceiveBufferSize(tuning.getReceiveBufferSize() != null ? tuning.getReceiveBufferSize() : defaults.getReceiveBufferSize());
+		resolved.setSendBufferSize(tuning.getSendBufferSize() != null ? tuning.getSendBufferSize() : defaults.getSendBufferSize());
+		resolved.setPacketSize(tuning.getPacketSize() != null ? tuning.getPacketSize() : defaults.getPacketSize());
+		resolved.getDriverProperties().putAll(tuning.getDriverProperties());
+		return resolved;
+	}
+
+	/**
+	 * @param dbType The Database type
+	 * @return The built-in tuning of the dialect, empty for unknown dialects
+	 */
+	public static JdbcTuningProperties defaults(String dbType) {
+		final JdbcTuningProperties defaults = new JdbcTuningProperties();
+		final String dialect = dbType == null ? "" : dbType.toLowerCase(Locale.ENGLISH);
+		if (dialect.contains("oracle")) {
+			// The driver default of 10 rows makes every dictionary query a long series of round trips
+			defaults.setFetchSize(500);
+			defaults.setDefaultRowPrefetch(500);
+			defaults.setUseFetchSizeWithLongColumn(true);
+		} else if (dialect.contains("postgres")) {
+			defaults.setFetchSize(1000);
+		} else if (dialect.contains("sqlserver")) {
+			defaults.setFetchSize(1000);
+			defaults.setPacketSize(32767);
+		} else if (dialect.contains("db2")) {
+			defaults.setFetchSize(500);
+		}
+		return defaults;
+	}
+
+	/**
+	 * @param dbType The Database type
+	 * @param tuning The resolved tuning
+	 * @return The driver properties that carry the tuning, for the dedicated metadata pools
+	 */
+	public static Map<String, String> driverProperties(String dbType, JdbcTuningProperties tuning) {
+		final Map<String, String> properties = new LinkedHashMap<String, String>();
+		final String dialect = dbType == null ? "" : dbType.toLowerCase(Locale.ENGLISH);
+		if (dialect.contains("oracle")) {
+			put(properties, "defaultRowPrefetch", tuning.getDefaultRowPrefetch());
+			put(properties, "useFetchSizeWithLongColumn", tuning.getUseFetchSizeWithLongColumn());
+		} else if (dialect.contains("postgres")) {
+			put(properties, "defaultRowFetchSize", tuning.getFetchSize());
+			put(properties, "receiveBufferSize", tuning.getReceiveBufferSize());
+			put(properties, "sendBufferSize", tuning.getSendBufferSize());
+		} else if (dialect.contains("sqlserver")) {
+			put(properties, "packetSize", tuning.getPacketSize());
+		} else if (dialect.contains("mysql") || dialect.contains("mariadb")) {
+			put(properties, "tcpRcvBuf", tuning.getReceiveBufferSize());
+			put(properties, "tcpSndBuf", tuning.getSendBufferSize());
+		}
+		properties.putAll(tuning.getDriverProperties());
+		return properties;
+	}
+
+	/**
+	 * @param connection The connection of a crawl
+	 * @param tuning The resolved tuning
+	 * @return The connection whose new statements use the fetch size of the tuning
+	 */
+	public static Connection apply(final Connection connection, final JdbcTuningProperties tuning) {
+		if (tuning == null || tuning.getFetchSize() == null || tuning.getFetchSize() <= 0) {
+			return connection;
+		}
+		final int fetchSize = tuning.getFetchSize();
+		return (Connection) Proxy.newProxyInstance(JdbcTuning.class.getClassLoader(), new Class<?>[] { Connection.class },
+				(proxy, method, args) -> {
+					final Object result;
+					try {
+						result = method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+					if (result instanceof Statement) {
+						((Statement) result).setFetchSize(fetchSize);
+					}
+					return result;
+				});
+	}
+
+	private static void put(Map<String, String> properties, String name, Object value) {
+		if (value != null) {
+			properties.put(name, value.toString());
+		}
+	}
+
+	private JdbcTuning() {
+	}
+
+}
@@ -0,0 +1,30 @@
+package schemacrawler.spring.boot.ext.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+/**
+ * JDBC tuning of the connections used for crawling. Unset values fall back to the built-in
+ * defaults of the dialect, see {@link JdbcTuning#resolve(String, JdbcTuningProperties)}.
+ */
+@Data
+public class JdbcTuningProperties {
+
+	/** Fetch size of the statements created during a crawl, such as data dictionary queries. */
+	private Integer fetchSize;
+	/** Oracle driver row prefetch, which also applies to DatabaseMetaData result sets. */
+	private Integer defaultRowPrefetch;
+	/** Let the Oracle driver prefetch rows with LONG columns, used by dictionary views. */
+	private Boolean useFetchSizeWithLongColumn;
+	/** Socket receive buffer size hint in bytes, for the drivers that support one. */
+	private Integer receiveBufferSize;
+	/** Socket send buffer size hint in bytes, for the drivers that support one. */
+	private Integer sendBufferSize;
+	/** Network packet size hint in bytes, for the drivers that support one. */
+	private Integer packetSize;
+	/** Additional driver properties of the dedicated metadata pools. */
+	private Map<String, String> driverProperties = new LinkedHashMap<String, String>();
+
+}
@@ -0,0 +1,30 @@
+package schemacrawler.spring.boot.ext.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("schemacrawler.Crawl")
+@Label("Crawl")
+@Category("SchemaCrawler")
+@Description("A crawl of the database by the SchemaCrawlerTemplate")
+public class CrawlEvent extends Event {
+
+	@Label("Database Type")
+	String dbType;
+	@Label("Info Level")
+	String level;
+	@Label("Outcome")
+	String outcome;
+	@Label("Schemas")
+	int schemas;
+	@Label("Tables")
+	int tables;
+	@Label("Columns")
+	long columns;
+	@Label("Routines")
+	int routines;
+
+}
@@ -0,0 +1,68 @@
+package schemacrawler.spring.boot.ext.jfr;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.spring.boot.ext.listener.CrawlContext;
+import schemacrawler.spring.boot.ext.listener.CrawlListener;
+
+/**
+ * Emits a {@link CrawlEvent} for every crawl, while a flight recording with the event enabled is running.
+ * @author hiwepy
+ */
+public class JfrCrawlListener implements CrawlListener {
+
+	private final Map<CrawlContext, CrawlEvent> events = new ConcurrentHashMap<CrawlContext, CrawlEvent>();
+
+	@Override
+	public void onCrawlStarted(CrawlContext context) {
+		final CrawlEvent event = new CrawlEvent();
+		if (event.isEnabled()) {
+			event.begin();
+			events.put(context, event);
+		}
+	}
+
+	@Override
+	public void onCrawlCompleted(CrawlContext context) {
+		final CrawlEvent event = events.remove(context);
+		if (event == null) {
+			return;
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			final Catalog catalog = context.getCatalog();
+			long columns = 0;
+			for (Table table : catalog.getTables()) {
+				columns += table.getColumns().size();
+			}
+			event.schemas = catalog.getSchemas().size();
+			event.tables = catalog.getTables().size();
+			event.columns = columns;
+			event.routines = catalog.getRoutines().size();
+			commit(event, context, "success");
+		}
+	}
+
+	@Override
+	public void onCrawlFailed(CrawlContext context, Throwable ex) {
+		final CrawlEvent event = events.remove(context);
+		if (event == null) {
+			return;
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			commit(event, context, "error");
+		}
+	}
+
+	private void commit(CrawlEvent event, CrawlContext context, String outcome) {
+		event.dbType = context.getDbType();
+		event.level = context.getSchemaInfoLevel();
+		event.outcome = outcome;
+		event.commit();
+	}
+
+}
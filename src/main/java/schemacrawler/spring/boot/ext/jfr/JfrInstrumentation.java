@@ -0,0 +1,126 @@
+package schemacrawler.spring.boot.ext.jfr;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Wraps a crawl connection so that every {@link DatabaseMetaData} call and statement execution
+ * emits a {@link MetadataQueryEvent}, lasting until its result set is closed. The connection is
+ * returned unwrapped while no flight recording is running.
+ * @author hiwepy
+ */
+public final class JfrInstrumentation {
+
+	public static Connection wrap(Connection connection) {
+		if (!FlightRecorder.isInitialized() || !new MetadataQueryEvent().isEnabled()) {
+			return connection;
+		}
+		return proxy(Connection.class, (proxy, method, args) -> {
+			final Object result = invoke(connection, method, args);
+			if (result instanceof DatabaseMetaData) {
+				return proxy(DatabaseMetaData.class, new QueryHandler(result, "DatabaseMetaData."));
+			}
+			if (result instanceof CallableStatement) {
+				return proxy(CallableStatement.class, new QueryHandler(result, "CallableStatement."));
+			}
+			if (result instanceof PreparedStatement) {
+				return proxy(PreparedStatement.class, new QueryHandler(result, "PreparedStatement."));
+			}
+			if (result instanceof Statement) {
+				return proxy(Statement.class, new QueryHandler(result, "Statement."));
+			}
+			return result;
+		});
+	}
+
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(JfrInstrumentation.class.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static class QueryHandler implements InvocationHandler {
+
+		private final Object target;
+		private final String prefix;
+
+		QueryHandler(Object target, String prefix) {
+			this.target = target;
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final boolean query = target instanceof DatabaseMetaData
+					? method.getDeclaringClass() == DatabaseMetaData.class && method.getReturnType() == ResultSet.class
+					: method.getName().startsWith("execute");
+			if (!query) {
+				return JfrInstrumentation.invoke(target, method, args);
+			}
+			final MetadataQueryEvent event = new MetadataQueryEvent();
+			event.method = prefix + method.getName();
+			event.begin();
+			final Object result;
+			try {
+				result = JfrInstrumentation.invoke(target, method, args);
+			} catch (Throwable e) {
+				event.commit();
+				throw e;
+			}
+			if (result instanceof ResultSet) {
+				return proxy(ResultSet.class, new ResultSetHandler((ResultSet) result, event));
+			}
+			event.commit();
+			return result;
+		}
+
+	}
+
+	/**
+	 * Counts the rows of a result set, and commits its event when it is closed.
+	 */
+	private static class ResultSetHandler implements InvocationHandler {
+
+		private final ResultSet target;
+		private final MetadataQueryEvent event;
+		private boolean committed;
+
+		ResultSetHandler(ResultSet target, MetadataQueryEvent event) {
+			this.target = target;
+			this.event = event;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final Object result = JfrInstrumentation.invoke(target, method, args);
+			if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+				event.rows++;
+			} else if ("close".equals(method.getName()) && !committed) {
+				committed = true;
+				event.commit();
+			}
+			return result;
+		}
+
+	}
+
+	private JfrInstrumentation() {
+	}
+
+}
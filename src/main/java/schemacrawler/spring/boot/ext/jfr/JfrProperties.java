@@ -0,0 +1,11 @@
+package schemacrawler.spring.boot.ext.jfr;
+
+import lombok.Data;
+
+@Data
+public class JfrProperties {
+
+	/** Emit Java Flight Recorder events for crawls and their metadata queries. */
+	private boolean enabled = false;
+
+}
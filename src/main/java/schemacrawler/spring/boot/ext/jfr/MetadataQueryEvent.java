@@ -0,0 +1,20 @@
+package schemacrawler.spring.boot.ext.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("schemacrawler.MetadataQuery")
+@Label("Metadata Query")
+@Category("SchemaCrawler")
+@Description("A DatabaseMetaData call or statement execution of a crawl, until its result set is closed")
+public class MetadataQueryEvent extends Event {
+
+	@Label("Method")
+	String method;
+	@Label("Rows")
+	long rows;
+
+}
@@ -0,0 +1,85 @@
+package schemacrawler.spring.boot.ext.listener;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.spring.boot.ext.jdbc.JdbcRoundTripRecorder;
+
+/**
+ * The state of a single crawl of the database, passed to the {@link CrawlListener}s.
+ * @author hiwepy
+ */
+public class CrawlContext {
+
+	private final String dbType;
+	private final SchemaCrawlerOptions options;
+	private final long startNanos = System.nanoTime();
+	private long durationNanos = -1;
+	private Catalog catalog;
+	private JdbcRoundTripRecorder roundTrips;
+
+	public CrawlContext(String dbType, SchemaCrawlerOptions options) {
+		this.dbType = dbType;
+		this.options = options;
+	}
+
+	/**
+	 * @return The Database type, or null if the crawl is not for a configured database type
+	 */
+	public String getDbType() {
+		return dbType;
+	}
+
+	public SchemaCrawlerOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * @return The tag of the {@link SchemaInfoLevel} of the crawl
+	 */
+	public String getSchemaInfoLevel() {
+		if (options == null || options.getLoadOptions() == null || options.getLoadOptions().getSchemaInfoLevel() == null) {
+			return "unknown";
+		}
+		return options.getLoadOptions().getSchemaInfoLevel().getTag();
+	}
+
+	public long getStartNanos() {
+		return startNanos;
+	}
+
+	/**
+	 * @return The duration of the crawl in nanoseconds, or -1 while the crawl is running
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * @return The crawled catalog, or null if the crawl is running or has failed
+	 */
+	public Catalog getCatalog() {
+		return catalog;
+	}
+
+	/**
+	 * @return The JDBC calls of the crawl, or null if JDBC instrumentation is disabled
+	 */
+	public JdbcRoundTripRecorder getRoundTrips() {
+		return roundTrips;
+	}
+
+	public void setRoundTrips(JdbcRoundTripRecorder roundTrips) {
+		this.roundTrips = roundTrips;
+	}
+
+	public void complete(Catalog catalog) {
+		this.durationNanos = System.nanoTime() - startNanos;
+		this.catalog = catalog;
+	}
+
+	public void fail() {
+		this.durationNanos = System.nanoTime() - startNanos;
+	}
+
+}
@@ -0,0 +1,56 @@
+package schemacrawler.spring.boot.ext.listener;
+
+import schemacrawler.spring.boot.ext.cache.CatalogCacheKey;
+
+/**
+ * Callback interface for crawl and cache events of the {@code SchemaCrawlerTemplate}.
+ * Implementations declared as beans are picked up automatically.
+ * @author hiwepy
+ */
+public interface CrawlListener {
+
+	/**
+	 * Called when a catalog is served from the cache.
+	 * @param key The cache key
+	 */
+	default void onCacheHit(CatalogCacheKey key) {
+	}
+
+	/**
+	 * Called when a catalog is not in the cache and has to be crawled.
+	 * @param key The cache key
+	 */
+	default void onCacheMiss(CatalogCacheKey key) {
+	}
+
+	/**
+	 * Called when a catalog is removed from the cache.
+	 * @param key The cache key
+	 * @param reason Why the catalog was removed: expired, evicted or overflow
+	 */
+	default void onCacheEviction(CatalogCacheKey key, String reason) {
+	}
+
+	/**
+	 * Called before the database is crawled.
+	 * @param context The crawl context
+	 */
+	default void onCrawlStarted(CrawlContext context) {
+	}
+
+	/**
+	 * Called after the database has been crawled successfully.
+	 * @param context The crawl context, with the crawled catalog
+	 */
+	default void onCrawlCompleted(CrawlContext context) {
+	}
+
+	/**
+	 * Called when the database could not be crawled.
+	 * @param context The crawl context
+	 * @param ex The failure
+	 */
+	default void onCrawlFailed(CrawlContext context, Throwable ex) {
+	}
+
+}
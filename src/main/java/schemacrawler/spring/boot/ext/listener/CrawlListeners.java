@@ -0,0 +1,72 @@
+package schemacrawler.spring.boot.ext.listener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import schemacrawler.spring.boot.ext.cache.CatalogCacheKey;
+
+/**
+ * Dispatches events to a list of {@link CrawlListener}s; a failing listener is logged and does not
+ * affect the crawl or the other listeners.
+ * @author hiwepy
+ */
+public class CrawlListeners implements CrawlListener {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CrawlListeners.class);
+
+	private final List<CrawlListener> listeners;
+
+	public CrawlListeners(Collection<? extends CrawlListener> listeners) {
+		this.listeners = listeners == null ? new ArrayList<CrawlListener>() : new ArrayList<CrawlListener>(listeners);
+	}
+
+	public boolean isEmpty() {
+		return listeners.isEmpty();
+	}
+
+	@Override
+	public void onCacheHit(CatalogCacheKey key) {
+		dispatch(listener -> listener.onCacheHit(key));
+	}
+
+	@Override
+	public void onCacheMiss(CatalogCacheKey key) {
+		dispatch(listener -> listener.onCacheMiss(key));
+	}
+
+	@Override
+	public void onCacheEviction(CatalogCacheKey key, String reason) {
+		dispatch(listener -> listener.onCacheEviction(key, reason));
+	}
+
+	@Override
+	public void onCrawlStarted(CrawlContext context) {
+		dispatch(listener -> listener.onCrawlStarted(context));
+	}
+
+	@Override
+	public void onCrawlCompleted(CrawlContext context) {
+		dispatch(listener -> listener.onCrawlCompleted(context));
+	}
+
+	@Override
+	public void onCrawlFailed(CrawlContext context, Throwable ex) {
+		dispatch(listener -> listener.onCrawlFailed(context, ex));
+	}
+
+	private void dispatch(Consumer<CrawlListener> event) {
+		for (CrawlListener listener : listeners) {
+			try {
+				event.accept(listener);
+			} catch (RuntimeException e) {
+				LOG.warn("CrawlListener {} failed", listener, e);
+			}
+		}
+	}
+
+}
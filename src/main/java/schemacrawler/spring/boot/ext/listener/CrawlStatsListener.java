@@ -0,0 +1,75 @@
+package schemacrawler.spring.boot.ext.listener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+
+/**
+ * Keeps the outcome of the most recent crawl of each database type and the number of crawls
+ * in progress, for the actuator endpoint.
+ * @author hiwepy
+ */
+public class CrawlStatsListener implements CrawlListener {
+
+	private final ConcurrentMap<String, Map<String, Object>> lastCrawls = new ConcurrentHashMap<String, Map<String, Object>>();
+	private final AtomicInteger running = new AtomicInteger();
+
+	@Override
+	public void onCrawlStarted(CrawlContext context) {
+		running.incrementAndGet();
+	}
+
+	@Override
+	public void onCrawlCompleted(CrawlContext context) {
+		running.decrementAndGet();
+		final Map<String, Object> crawl = crawl(context, "success");
+		final Catalog catalog = context.getCatalog();
+		long columns = 0;
+		for (Table table : catalog.getTables()) {
+			columns += table.getColumns().size();
+		}
+		crawl.put("schemas", catalog.getSchemas().size());
+		crawl.put("tables", catalog.getTables().size());
+		crawl.put("columns", columns);
+		crawl.put("routines", catalog.getRoutines().size());
+		lastCrawls.put(key(context), crawl);
+	}
+
+	@Override
+	public void onCrawlFailed(CrawlContext context, Throwable ex) {
+		running.decrementAndGet();
+		final Map<String, Object> crawl = crawl(context, "error");
+		crawl.put("error", ex.getClass().getName() + ": " + ex.getMessage());
+		lastCrawls.put(key(context), crawl);
+	}
+
+	/**
+	 * @return The most recent crawl of each database type, "none" for crawls without a database type
+	 */
+	public Map<String, Map<String, Object>> getLastCrawls() {
+		return new LinkedHashMap<String, Map<String, Object>>(lastCrawls);
+	}
+
+	public int getRunningCrawls() {
+		return running.get();
+	}
+
+	private Map<String, Object> crawl(CrawlContext context, String outcome) {
+		final Map<String, Object> crawl = new LinkedHashMap<String, Object>();
+		crawl.put("outcome", outcome);
+		crawl.put("finishedAt", System.currentTimeMillis());
+		crawl.put("durationMillis", context.getDurationNanos() / 1000000);
+		crawl.put("level", context.getSchemaInfoLevel());
+		return crawl;
+	}
+
+	private String key(CrawlContext context) {
+		return context.getDbType() == null ? "none" : context.getDbType();
+	}
+
+}
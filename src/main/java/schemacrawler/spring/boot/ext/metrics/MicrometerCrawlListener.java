@@ -0,0 +1,144 @@
+package schemacrawler.spring.boot.ext.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.spring.boot.ext.cache.CatalogCacheKey;
+import schemacrawler.spring.boot.ext.jdbc.JdbcCallStats;
+import schemacrawler.spring.boot.ext.jdbc.JdbcRoundTripRecorder;
+import schemacrawler.spring.boot.ext.listener.CrawlContext;
+import schemacrawler.spring.boot.ext.listener.CrawlListener;
+
+/**
+ * Records crawl timings, catalog object counts and cache behavior with Micrometer.
+ * @author hiwepy
+ */
+public class MicrometerCrawlListener implements CrawlListener {
+
+	public static final String CRAWL = "schemacrawler.crawl";
+	public static final String CATALOG_OBJECTS = "schemacrawler.catalog.objects";
+	public static final String CACHE_GETS = "schemacrawler.cache.gets";
+	public static final String CACHE_EVICTIONS = "schemacrawler.cache.evictions";
+	public static final String JDBC_CALLS = "schemacrawler.jdbc.calls";
+	public static final String JDBC_TIME = "schemacrawler.jdbc.time";
+
+	private final MeterRegistry registry;
+	/** Time spent in JDBC calls, per method, read by the function timers */
+	private final ConcurrentMap<Tags, JdbcTime> jdbcTimes = new ConcurrentHashMap<Tags, JdbcTime>();
+
+	public MicrometerCrawlListener(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void onCacheHit(CatalogCacheKey key) {
+		registry.counter(CACHE_GETS, "result", "hit").increment();
+	}
+
+	@Override
+	public void onCacheMiss(CatalogCacheKey key) {
+		registry.counter(CACHE_GETS, "result", "miss").increment();
+	}
+
+	@Override
+	public void onCacheEviction(CatalogCacheKey key, String reason) {
+		registry.counter(CACHE_EVICTIONS, "reason", reason).increment();
+	}
+
+	@Override
+	public void onCrawlCompleted(CrawlContext context) {
+		final Tags tags = tags(context);
+		timer(tags.and("outcome", "success")).record(context.getDurationNanos(), TimeUnit.NANOSECONDS);
+		roundTrips(context);
+
+		final Catalog catalog = context.getCatalog();
+		long columns = 0;
+		long indexes = 0;
+		long foreignKeys = 0;
+		for (Table table : catalog.getTables()) {
+			columns += table.getColumns().size();
+			indexes += table.getIndexes().size();
+			foreignKeys += table.getForeignKeys().size();
+		}
+		summary(tags, "schemas").record(catalog.getSchemas().size());
+		summary(tags, "tables").record(catalog.getTables().size());
+		summary(tags, "columns").record(columns);
+		summary(tags, "indexes").record(indexes);
+		summary(tags, "foreign_keys").record(foreignKeys);
+		summary(tags, "routines").record(catalog.getRoutines().size());
+	}
+
+	@Override
+	public void onCrawlFailed(CrawlContext context, Throwable ex) {
+		timer(tags(context).and("outcome", "error")).record(context.getDurationNanos(), TimeUnit.NANOSECONDS);
+		roundTrips(context);
+	}
+
+	protected void roundTrips(CrawlContext context) {
+		final JdbcRoundTripRecorder recorder = context.getRoundTrips();
+		if (recorder == null) {
+			return;
+		}
+		final Tags tags = Tags.of("dbType", context.getDbType() == null ? "none" : context.getDbType());
+		for (JdbcCallStats stats : recorder.getStats()) {
+			final Tags methodTags = tags.and("method", stats.getMethod());
+			Counter.builder(JDBC_CALLS).description("Number of JDBC calls made by crawls").tags(methodTags)
+					.register(registry).increment(stats.getCalls());
+			jdbcTime(methodTags).add(stats.getCalls(), stats.getNanos());
+		}
+	}
+
+	private JdbcTime jdbcTime(Tags tags) {
+		return jdbcTimes.computeIfAbsent(tags, key -> {
+			final JdbcTime time = new JdbcTime();
+			FunctionTimer.builder(JDBC_TIME, time, JdbcTime::getCalls, JdbcTime::getNanos, TimeUnit.NANOSECONDS)
+					.description("Time spent in JDBC calls made by crawls, including row fetching").tags(key).register(registry);
+			return time;
+		});
+	}
+
+	protected Tags tags(CrawlContext context) {
+		return Tags.of("dbType", context.getDbType() == null ? "none" : context.getDbType(),
+				"level", context.getSchemaInfoLevel());
+	}
+
+	private Timer timer(Tags tags) {
+		return Timer.builder(CRAWL).description("Time taken to crawl the database").tags(tags).register(registry);
+	}
+
+	private DistributionSummary summary(Tags tags, String type) {
+		return DistributionSummary.builder(CATALOG_OBJECTS).description("Number of objects in a crawled catalog")
+				.tags(tags.and("type", type)).register(registry);
+	}
+
+	private static class JdbcTime {
+
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		void add(long calls, long nanos) {
+			this.calls.add(calls);
+			this.nanos.add(nanos);
+		}
+
+		long getCalls() {
+			return calls.sum();
+		}
+
+		double getNanos() {
+			return nanos.sum();
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+package schemacrawler.spring.boot.ext.pool;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.jdbc.JdbcTuning;
+
+/**
+ * Small read-only connection pools dedicated to crawling, one per configured database type with a
+ * url, so that metadata crawls never borrow connections from the pool of the application. A pool
+ * is created on the first crawl of its database type, and keeps no connection open while idle.
+ * @author hiwepy
+ */
+public class MetadataDataSources implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(MetadataDataSources.class);
+
+	private final MetadataPoolProperties properties;
+	private final ConcurrentMap<String, HikariDataSource> dataSources = new ConcurrentHashMap<String, HikariDataSource>();
+
+	public MetadataDataSources(MetadataPoolProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * @param crawlerOptions The options of the database type
+	 * @return The metadata pool of the database type, or null if it has no url
+	 */
+	public DataSource getDataSource(DatabaseSchemaCrawlerOptions crawlerOptions) {
+		if (!properties.isEnabled() || crawlerOptions == null || !StringUtils.hasText(crawlerOptions.getUrl())) {
+			return null;
+		}
+		return dataSources.computeIfAbsent(crawlerOptions.getType(), type -> create(crawlerOptions));
+	}
+
+	protected HikariDataSource create(DatabaseSchemaCrawlerOptions crawlerOptions) {
+		final HikariConfig config = new HikariConfig();
+		config.setPoolName("schemacrawler-" + crawlerOptions.getType());
+		config.setJdbcUrl(crawlerOptions.getUrl());
+		config.setUsername(crawlerOptions.getUsername());
+		config.setPassword(crawlerOptions.getPassword());
+		config.setReadOnly(true);
+		config.setMinimumIdle(0);
+		config.setMaximumPoolSize(Math.max(1, properties.getMaximumPoolSize()));
+		config.setIdleTimeout(properties.getIdleTimeout().toMillis());
+		config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+		config.setMaxLifetime(properties.getMaxLifetime().toMillis());
+		// Do not connect before the first crawl
+		config.setInitializationFailTimeout(-1);
+		final Map<String, String> driverProperties = JdbcTuning.driverProperties(crawlerOptions.getType(),
+				JdbcTuning.resolve(crawlerOptions.getType(), crawlerOptions.getTuning()));
+		for (Map.Entry<String, String> property : driverProperties.entrySet()) {
+			config.addDataSourceProperty(property.getKey(), property.getValue());
+		}
+		LOG.info("Creating metadata connection pool {} for {}", config.getPoolName(), crawlerOptions.getUrl());
+		return new HikariDataSource(config);
+	}
+
+	@Override
+	public void destroy() {
+		for (HikariDataSource dataSource : dataSources.values()) {
+			dataSource.close();
+		}
+		dataSources.clear();
+	}
+
+}
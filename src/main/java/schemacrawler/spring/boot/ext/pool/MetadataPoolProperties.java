@@ -0,0 +1,21 @@
+package schemacrawler.spring.boot.ext.pool;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+@Data
+public class MetadataPoolProperties {
+
+	/** Crawl configured database types through dedicated pools built from their url, username and password. */
+	private boolean enabled = true;
+	/** Maximum number of connections of each metadata pool. */
+	private int maximumPoolSize = 2;
+	/** Time after which an unused connection is closed; the pools keep no idle connections. */
+	private Duration idleTimeout = Duration.ofMinutes(2);
+	/** Maximum time to wait for a connection of a metadata pool. */
+	private Duration connectionTimeout = Duration.ofSeconds(30);
+	/** Maximum lifetime of a connection of a metadata pool. */
+	private Duration maxLifetime = Duration.ofMinutes(30);
+
+}
@@ -0,0 +1,50 @@
+package schemacrawler.spring.boot.ext.registry;
+
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionFingerprint;
+
+/**
+ * The effective SchemaCrawlerOptions of a database type, with their fingerprint computed once, as built by
+ * the last (re)load of the {@link SchemaCrawlerOptionsRegistry}. Later changes to the configured options are
+ * only seen by the next snapshot.
+ * @author hiwepy
+ */
+public final class CrawlerOptionsSnapshot {
+
+	private final DatabaseSchemaCrawlerOptions crawlerOptions;
+	private final SchemaCrawlerOptions options;
+	private final String fingerprint;
+
+	CrawlerOptionsSnapshot(DatabaseSchemaCrawlerOptions crawlerOptions, SchemaCrawlerOptions options) {
+		this.crawlerOptions = new UnmodifiableCrawlerOptions(crawlerOptions, options);
+		this.options = options;
+		this.fingerprint = SchemaCrawlerOptionFingerprint.of(options);
+	}
+
+	public String getType() {
+		return crawlerOptions.getType();
+	}
+
+	/**
+	 * @return An unmodifiable copy of the configured options of the database type, as they were when the snapshot was taken
+	 */
+	public DatabaseSchemaCrawlerOptions getCrawlerOptions() {
+		return crawlerOptions;
+	}
+
+	/**
+	 * @return The SchemaCrawlerOptions to crawl the database type with
+	 */
+	public SchemaCrawlerOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * @return The fingerprint of the options, see {@link SchemaCrawlerOptionFingerprint}
+	 */
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+}
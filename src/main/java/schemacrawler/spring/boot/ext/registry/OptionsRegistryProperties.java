@@ -0,0 +1,11 @@
+package schemacrawler.spring.boot.ext.registry;
+
+import lombok.Data;
+
+@Data
+public class OptionsRegistryProperties {
+
+	/** When the database connector registry and the crawler options are built: eager, lazy or async. */
+	private RegistryInitialization initialization = RegistryInitialization.EAGER;
+
+}
@@ -0,0 +1,12 @@
+package schemacrawler.spring.boot.ext.registry;
+
+public enum RegistryInitialization {
+
+	/** Build the database connector registry and the crawler options of every database type at startup */
+	EAGER,
+	/** Build them on first use */
+	LAZY,
+	/** Build them in the background once the application is ready */
+	ASYNC;
+
+}
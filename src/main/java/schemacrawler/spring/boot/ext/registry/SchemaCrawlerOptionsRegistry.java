@@ -0,0 +1,153 @@
+package schemacrawler.spring.boot.ext.registry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
+
+/**
+ * Holds the {@link DatabaseConnectorRegistry}, which loads every database plugin on the classpath, and an
+ * immutable map of the {@link CrawlerOptionsSnapshot} of each database type. Both are built on first use,
+ * unless {@link #initialize()} is called beforehand. The map is replaced as a whole by {@link #reload()}, so
+ * that concurrent crawls always see a consistent set of options. The configured options are read again on
+ * every reload, so that options rebound to new instances are picked up.
+ * @author hiwepy
+ */
+public class SchemaCrawlerOptionsRegistry {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SchemaCrawlerOptionsRegistry.class);
+
+	private final Supplier<List<DatabaseSchemaCrawlerOptions>> crawlerOptions;
+	private final Function<DatabaseSchemaCrawlerOptions, SchemaCrawlerOptions> builder;
+	private final AtomicReference<Map<String, CrawlerOptionsSnapshot>> snapshots = new AtomicReference<Map<String, CrawlerOptionsSnapshot>>();
+	private volatile DatabaseConnectorRegistry connectorRegistry;
+
+	/**
+	 * @param crawlerOptions The configured options, whose SchemaCrawlerOptions are built from their rules
+	 */
+	public SchemaCrawlerOptionsRegistry(List<DatabaseSchemaCrawlerOptions> crawlerOptions) {
+		this(crawlerOptions, SchemaCrawlerOptionBuilder::fromRules);
+	}
+
+	/**
+	 * @param crawlerOptions The configured options
+	 * @param builder Builds the SchemaCrawlerOptions of a database type
+	 */
+	public SchemaCrawlerOptionsRegistry(List<DatabaseSchemaCrawlerOptions> crawlerOptions,
+			Function<DatabaseSchemaCrawlerOptions, SchemaCrawlerOptions> builder) {
+		this(() -> crawlerOptions, builder);
+	}
+
+	/**
+	 * @param crawlerOptions Supplies the configured options, on first use and on every reload
+	 * @param builder Builds the SchemaCrawlerOptions of a database type
+	 */
+	public SchemaCrawlerOptionsRegistry(Supplier<List<DatabaseSchemaCrawlerOptions>> crawlerOptions,
+			Function<DatabaseSchemaCrawlerOptions, SchemaCrawlerOptions> builder) {
+		this.crawlerOptions = crawlerOptions;
+		this.builder = builder;
+	}
+
+	/**
+	 * @return The database connector registry, loaded on first call
+	 * @throws SchemaCrawlerException if the database plugins could not be loaded
+	 */
+	public DatabaseConnectorRegistry getDatabaseConnectorRegistry() throws SchemaCrawlerException {
+		DatabaseConnectorRegistry registry = connectorRegistry;
+		if (registry == null) {
+			synchronized (this) {
+				registry = connectorRegistry;
+				if (registry == null) {
+					final long start = System.nanoTime();
+					registry = DatabaseConnectorRegistry.getDatabaseConnectorRegistry();
+					connectorRegistry = registry;
+					LOG.debug("Database connector registry loaded in {} ms", (System.nanoTime() - start) / 1000000);
+				}
+			}
+		}
+		return registry;
+	}
+
+	/**
+	 * @param dbType The Database type.
+	 * @return The options snapshot of the Database type, or null if it is not configured
+	 */
+	public CrawlerOptionsSnapshot getSnapshot(String dbType) {
+		return dbType == null ? null : snapshots().get(dbType);
+	}
+
+	/**
+	 * @param dbType The Database type.
+	 * @return An unmodifiable copy of the configured {@link DatabaseSchemaCrawlerOptions} of the Database type, or null
+	 */
+	public DatabaseSchemaCrawlerOptions getDatabaseCrawlerOptions(String dbType) {
+		final CrawlerOptionsSnapshot snapshot = getSnapshot(dbType);
+		return snapshot == null ? null : snapshot.getCrawlerOptions();
+	}
+
+	/**
+	 * @param dbType The Database type.
+	 * @return The SchemaCrawlerOptions built from the rules of the Database type, or null if it is not configured
+	 */
+	public SchemaCrawlerOptions getOptions(String dbType) {
+		final CrawlerOptionsSnapshot snapshot = getSnapshot(dbType);
+		return snapshot == null ? null : snapshot.getOptions();
+	}
+
+	/**
+	 * Rebuild the options snapshots from the configured options, after they have been changed. Crawls that
+	 * already started keep the options they were started with.
+	 */
+	public void reload() {
+		snapshots.set(build());
+	}
+
+	/**
+	 * @return Whether the database connector registry has been loaded
+	 */
+	public boolean isInitialized() {
+		return connectorRegistry != null;
+	}
+
+	/**
+	 * Build the crawler options of every database type and load the database connector registry now.
+	 * @throws SchemaCrawlerException if the database plugins could not be loaded
+	 */
+	public void initialize() throws SchemaCrawlerException {
+		snapshots();
+		getDatabaseConnectorRegistry();
+	}
+
+	private Map<String, CrawlerOptionsSnapshot> snapshots() {
+		final Map<String, CrawlerOptionsSnapshot> current = snapshots.get();
+		if (current != null) {
+			return current;
+		}
+		snapshots.compareAndSet(null, build());
+		return snapshots.get();
+	}
+
+	private Map<String, CrawlerOptionsSnapshot> build() {
+		final Map<String, CrawlerOptionsSnapshot> built = new HashMap<String, CrawlerOptionsSnapshot>();
+		for (DatabaseSchemaCrawlerOptions crawlerOption : crawlerOptions.get()) {
+			// The first options of a database type win, as they did when the options were searched in order
+			if (!built.containsKey(crawlerOption.getType())) {
+				built.put(crawlerOption.getType(), new CrawlerOptionsSnapshot(crawlerOption, builder.apply(crawlerOption)));
+			}
+		}
+		return Collections.unmodifiableMap(built);
+	}
+
+}
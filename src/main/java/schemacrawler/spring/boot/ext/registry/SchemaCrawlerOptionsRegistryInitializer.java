@@ -0,0 +1,59 @@
+package schemacrawler.spring.boot.ext.registry;
+
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
+
+/**
+ * Initializes the {@link SchemaCrawlerOptionsRegistry} according to its {@link RegistryInitialization}: while
+ * the singletons are created, in the background once the application is ready, or not at all.
+ * @author hiwepy
+ */
+public class SchemaCrawlerOptionsRegistryInitializer implements SmartInitializingSingleton, ApplicationListener<ApplicationReadyEvent> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SchemaCrawlerOptionsRegistryInitializer.class);
+
+	private final SchemaCrawlerOptionsRegistry registry;
+	private final RegistryInitialization initialization;
+	private final Executor executor;
+
+	public SchemaCrawlerOptionsRegistryInitializer(SchemaCrawlerOptionsRegistry registry, RegistryInitialization initialization,
+			Executor executor) {
+		this.registry = registry;
+		this.initialization = initialization;
+		this.executor = executor;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (initialization == RegistryInitialization.EAGER) {
+			try {
+				registry.initialize();
+			} catch (SchemaCrawlerException e) {
+				throw new IllegalStateException("Database connector registry could not be loaded", e);
+			}
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (initialization != RegistryInitialization.ASYNC) {
+			return;
+		}
+		executor.execute(() -> {
+			try {
+				registry.initialize();
+			} catch (RuntimeException e) {
+				// Left to be retried on first use
+				LOG.warn("Database connector registry could not be loaded in the background", e);
+			}
+		});
+	}
+
+}
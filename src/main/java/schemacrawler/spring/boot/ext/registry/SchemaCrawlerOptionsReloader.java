@@ -0,0 +1,53 @@
+package schemacrawler.spring.boot.ext.registry;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
+
+/**
+ * Reloads the {@link SchemaCrawlerOptionsRegistry} when the environment is reconfigured at runtime, on the
+ * Spring Cloud {@code EnvironmentChangeEvent} and, once the refresh scope has been refreshed as well, on its
+ * {@code RefreshScopeRefreshedEvent}. The events are matched by name, so that Spring Cloud stays optional.
+ * @author hiwepy
+ */
+public class SchemaCrawlerOptionsReloader implements SmartApplicationListener {
+
+	public static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+	public static final String REFRESH_SCOPE_REFRESHED_EVENT = "org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent";
+
+	private static final Logger LOG = LoggerFactory.getLogger(SchemaCrawlerOptionsReloader.class);
+	private static final List<String> EVENT_TYPES = Arrays.asList(ENVIRONMENT_CHANGE_EVENT, REFRESH_SCOPE_REFRESHED_EVENT);
+
+	private final SchemaCrawlerOptionsRegistry registry;
+
+	public SchemaCrawlerOptionsReloader(SchemaCrawlerOptionsRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+		for (Class<?> type = eventType; type != null; type = type.getSuperclass()) {
+			if (EVENT_TYPES.contains(type.getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		registry.reload();
+		LOG.debug("SchemaCrawler options reloaded on {}", event.getClass().getSimpleName());
+	}
+
+	@Override
+	public int getOrder() {
+		// After the configuration properties have been rebound
+		return LOWEST_PRECEDENCE;
+	}
+
+}
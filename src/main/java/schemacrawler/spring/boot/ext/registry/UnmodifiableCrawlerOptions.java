@@ -0,0 +1,132 @@
+package schemacrawler.spring.boot.ext.registry;
+
+import java.time.Duration;
+
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.RetrievalMode;
+import schemacrawler.spring.boot.ext.SchemaCrawlerInclusionRules;
+import schemacrawler.spring.boot.ext.jdbc.JdbcTuningProperties;
+
+/**
+ * Unmodifiable copy of the configured options of a database type, taken when the {@link SchemaCrawlerOptionsRegistry}
+ * is (re)loaded. The options are the effective SchemaCrawlerOptions, into which the inclusion rules are already built,
+ * so there are no rules; the JDBC tuning is copied on every read.
+ * @author hiwepy
+ */
+final class UnmodifiableCrawlerOptions extends DatabaseSchemaCrawlerOptions {
+
+	UnmodifiableCrawlerOptions(DatabaseSchemaCrawlerOptions crawlerOptions, SchemaCrawlerOptions options) {
+		super.setType(crawlerOptions.getType());
+		super.setUrl(crawlerOptions.getUrl());
+		super.setUsername(crawlerOptions.getUsername());
+		super.setPassword(crawlerOptions.getPassword());
+		super.setOptions(options);
+		super.setRules(null);
+		super.setChangeDetectionQuery(crawlerOptions.getChangeDetectionQuery());
+		super.setParallelism(crawlerOptions.getParallelism());
+		super.setStreamBatchSize(crawlerOptions.getStreamBatchSize());
+		super.setPushdown(crawlerOptions.isPushdown());
+		super.setRetrievalMode(crawlerOptions.getRetrievalMode());
+		super.setMaxConcurrentCrawls(crawlerOptions.getMaxConcurrentCrawls());
+		super.setQueueTimeout(crawlerOptions.getQueueTimeout());
+		super.setTuning(copyOf(crawlerOptions.getTuning()));
+	}
+
+	@Override
+	public JdbcTuningProperties getTuning() {
+		return copyOf(super.getTuning());
+	}
+
+	@Override
+	public void setType(String type) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setUrl(String url) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setUsername(String username) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setPassword(String password) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setOptions(SchemaCrawlerOptions options) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setRules(SchemaCrawlerInclusionRules rules) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setChangeDetectionQuery(String changeDetectionQuery) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setParallelism(int parallelism) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setStreamBatchSize(int streamBatchSize) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setPushdown(boolean pushdown) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setRetrievalMode(RetrievalMode retrievalMode) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setMaxConcurrentCrawls(Integer maxConcurrentCrawls) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setQueueTimeout(Duration queueTimeout) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void setTuning(JdbcTuningProperties tuning) {
+		throw unmodifiable();
+	}
+
+	private static UnsupportedOperationException unmodifiable() {
+		return new UnsupportedOperationException("Crawler options of a snapshot are unmodifiable, change the configured options and reload");
+	}
+
+	private static JdbcTuningProperties copyOf(JdbcTuningProperties tuning) {
+		if (tuning == null) {
+			return null;
+		}
+		final JdbcTuningProperties copy = new JdbcTuningProperties();
+		copy.setFetchSize(tuning.getFetchSize());
+		copy.setDefaultRowPrefetch(tuning.getDefaultRowPrefetch());
+		copy.setUseFetchSizeWithLongColumn(tuning.getUseFetchSizeWithLongColumn());
+		copy.setReceiveBufferSize(tuning.getReceiveBufferSize());
+		copy.setSendBufferSize(tuning.getSendBufferSize());
+		copy.setPacketSize(tuning.getPacketSize());
+		if (tuning.getDriverProperties() != null) {
+			copy.getDriverProperties().putAll(tuning.getDriverProperties());
+		}
+		return copy;
+	}
+
+}
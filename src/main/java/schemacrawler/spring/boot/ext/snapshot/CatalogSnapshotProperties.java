@@ -0,0 +1,16 @@
+package schemacrawler.spring.boot.ext.snapshot;
+
+import lombok.Data;
+import schemacrawler.spring.boot.ext.codec.CatalogCodec.Compression;
+
+@Data
+public class CatalogSnapshotProperties {
+
+	/** Enable on-disk Catalog snapshots for warm restarts. */
+	private boolean enabled = false;
+	/** Directory the snapshots are written to, created readable by the application user only. */
+	private String directory = System.getProperty("user.home") + "/.schemacrawler/snapshots";
+	/** Compression of the snapshot files. */
+	private Compression compression = Compression.DEFLATE;
+
+}
@@ -0,0 +1,151 @@
+package schemacrawler.spring.boot.ext.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.DigestUtils;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.spring.boot.ext.cache.CatalogCacheKey;
+import schemacrawler.spring.boot.ext.codec.CatalogCodec;
+
+/**
+ * Stores crawled catalogs on local disk, encoded by {@link CatalogCodec}, so that a restarted
+ * application can serve its first requests from the most recent snapshot.
+ * @author hiwepy
+ */
+public class CatalogSnapshotStore implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CatalogSnapshotStore.class);
+	private static final String SUFFIX = ".catalog";
+
+	private final Path directory;
+	private final CatalogCodec codec;
+	/** Writes snapshots and refreshes restored catalogs off the request path */
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "schemacrawler-snapshot");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public CatalogSnapshotStore(CatalogSnapshotProperties properties) {
+		this(properties, new CatalogCodec(properties.getCompression()));
+	}
+
+	public CatalogSnapshotStore(CatalogSnapshotProperties properties, CatalogCodec codec) {
+		this.directory = Paths.get(properties.getDirectory());
+		this.codec = codec;
+	}
+
+	/**
+	 * @param key The cache key of the catalog
+	 * @return The most recent snapshot of the catalog, or null if there is none
+	 */
+	public Catalog load(CatalogCacheKey key) {
+		final Path file = resolve(key);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (InputStream in = Files.newInputStream(file)) {
+			final Catalog catalog = codec.read(in);
+			LOG.info("Catalog {} restored from snapshot {}", key, file);
+			return catalog;
+		} catch (IOException e) {
+			// Typically a snapshot written by an incompatible SchemaCrawler version
+			LOG.warn("Discarding unreadable catalog snapshot {}: {}", file, e.getMessage());
+			delete(file);
+			return null;
+		}
+	}
+
+	/**
+	 * Write the catalog to a temporary file, then atomically rename it over the previous snapshot.
+	 * @param key The cache key of the catalog
+	 * @param catalog The catalog
+	 * @throws IOException if the snapshot could not be written
+	 */
+	public void save(CatalogCacheKey key, Catalog catalog) throws IOException {
+		createDirectory();
+		final Path file = resolve(key);
+		final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				codec.write(catalog, out);
+			}
+			try {
+				Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			LOG.debug("Catalog {} saved to snapshot {}", key, file);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	public void saveAsync(final CatalogCacheKey key, final Catalog catalog) {
+		executor.execute(() -> {
+			try {
+				save(key, catalog);
+			} catch (IOException e) {
+				LOG.warn("Catalog {} snapshot could not be saved: {}", key, e.getMessage());
+			}
+		});
+	}
+
+	public void evict(CatalogCacheKey key) {
+		delete(resolve(key));
+	}
+
+	public void execute(Runnable task) {
+		executor.execute(task);
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	protected Path resolve(CatalogCacheKey key) {
+		final String name = DigestUtils.md5DigestAsHex(key.getSource().getBytes(StandardCharsets.UTF_8));
+		return directory.resolve(name + "-" + key.getFingerprint() + SUFFIX);
+	}
+
+	private void createDirectory() throws IOException {
+		if (Files.isDirectory(directory)) {
+			return;
+		}
+		if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+			// Snapshots are deserialized on restore, keep other users from planting files
+			Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+		} else {
+			Files.createDirectories(directory);
+		}
+	}
+
+	private void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			LOG.warn("Catalog snapshot {} could not be deleted: {}", file, e.getMessage());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+}
@@ -0,0 +1,181 @@
+package schemacrawler.spring.boot.ext.warmup;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.util.StringUtils;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
+import schemacrawler.spring.boot.SchemaCrawlerTemplate;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.concurrent.CrawlDeadline;
+
+/**
+ * Crawls every configured database type once the application is ready, one after the other on a single low
+ * priority thread, so that the catalog cache is populated before the first request. Until the warm-up has
+ * completed or timed out, the readiness state is held at {@link ReadinessState#REFUSING_TRAFFIC}. The timeout
+ * runs on a thread of its own, so that a blocked crawl cannot hold back the readiness state.
+ * @author hiwepy
+ */
+public class CatalogWarmer implements SmartApplicationListener, DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CatalogWarmer.class);
+
+	private final CatalogWarmupProperties properties;
+	private final SchemaCrawlerTemplate template;
+	private final List<DatabaseSchemaCrawlerOptions> crawlerOptions;
+	private final DataSource dataSource;
+	private final ApplicationEventPublisher publisher;
+	private final ScheduledExecutorService executor;
+	private final ScheduledExecutorService timer;
+	private final AtomicBoolean started = new AtomicBoolean();
+	private final AtomicBoolean pending = new AtomicBoolean();
+	private final AtomicInteger remaining = new AtomicInteger();
+
+	/**
+	 * @param properties The warm-up properties
+	 * @param template The template whose cache is populated
+	 * @param crawlerOptions The database types to crawl
+	 * @param dataSource The application DataSource, crawled for database types without a url, may be null
+	 * @param publisher The publisher of the readiness state
+	 */
+	public CatalogWarmer(CatalogWarmupProperties properties, SchemaCrawlerTemplate template,
+			List<DatabaseSchemaCrawlerOptions> crawlerOptions, DataSource dataSource, ApplicationEventPublisher publisher) {
+		this.properties = properties;
+		this.template = template;
+		this.crawlerOptions = crawlerOptions;
+		this.dataSource = dataSource;
+		this.publisher = publisher;
+		this.executor = newScheduler("schemacrawler-warmup", Thread.MIN_PRIORITY);
+		// The timeout must fire even while a crawl blocks the warm-up thread
+		this.timer = newScheduler("schemacrawler-warmup-timeout", Thread.NORM_PRIORITY);
+	}
+
+	private static ScheduledExecutorService newScheduler(String name, int priority) {
+		final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			thread.setPriority(priority);
+			return thread;
+		});
+		executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		return executor;
+	}
+
+	@Override
+	public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+		return ApplicationReadyEvent.class.isAssignableFrom(eventType) || AvailabilityChangeEvent.class.isAssignableFrom(eventType);
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		if (event instanceof ApplicationReadyEvent) {
+			start();
+		} else if (pending.get() && ((AvailabilityChangeEvent<?>) event).getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+			// Spring Boot accepts traffic right after the ready event, hold it back until the warm-up is over
+			AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+		}
+	}
+
+	/**
+	 * Schedule the warm-up crawls, once.
+	 */
+	public void start() {
+		if (crawlerOptions.isEmpty() || !started.compareAndSet(false, true)) {
+			return;
+		}
+		if (template.getCatalogCache() == null) {
+			LOG.info("Catalog cache is disabled, warm-up crawls only warm up the connections and the database plugins");
+		}
+		final CrawlDeadline deadline = CrawlDeadline.after(properties.getTimeout());
+		final SchemaCrawlerTemplate warmup = template.withDeadline(deadline);
+		remaining.set(crawlerOptions.size());
+		if (properties.isHoldReadiness()) {
+			pending.set(true);
+			AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+		}
+		final long initialDelay = properties.getInitialDelay().toMillis();
+		final long stagger = properties.getStagger().toMillis();
+		for (int i = 0; i < crawlerOptions.size(); i++) {
+			final DatabaseSchemaCrawlerOptions options = crawlerOptions.get(i);
+			executor.schedule(() -> warmup(warmup, options), initialDelay + i * stagger, TimeUnit.MILLISECONDS);
+		}
+		timer.schedule(() -> {
+			if (remaining.get() > 0) {
+				LOG.warn("Warm-up timed out after {} with {} database types left", properties.getTimeout(), remaining.get());
+				deadline.cancel();
+				finish();
+				// Interrupt a crawl still blocked on the warm-up thread
+				executor.shutdownNow();
+			}
+		}, properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @return Whether the warm-up is still holding back the readiness state
+	 */
+	public boolean isPending() {
+		return pending.get();
+	}
+
+	/**
+	 * @return The number of database types not crawled yet
+	 */
+	public int getRemaining() {
+		return remaining.get();
+	}
+
+	private void warmup(SchemaCrawlerTemplate warmup, DatabaseSchemaCrawlerOptions options) {
+		final String dbType = options.getType();
+		final long start = System.nanoTime();
+		try {
+			final Catalog catalog;
+			if (StringUtils.hasText(options.getUrl())) {
+				catalog = warmup.crawl(dbType);
+			} else if (dataSource != null) {
+				catalog = warmup.crawl(dataSource, dbType);
+			} else {
+				throw new SchemaCrawlerException("No DataSource to crawl " + dbType);
+			}
+			LOG.info("Warm-up crawl of {} completed in {} ms, {} tables", dbType, (System.nanoTime() - start) / 1000000,
+					catalog.getTables().size());
+		} catch (Exception e) {
+			LOG.warn("Warm-up crawl of {} failed", dbType, e);
+		} finally {
+			if (remaining.decrementAndGet() == 0) {
+				finish();
+			}
+		}
+	}
+
+	private void finish() {
+		if (pending.compareAndSet(true, false)) {
+			AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+		}
+		executor.shutdown();
+		timer.shutdown();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+		timer.shutdownNow();
+	}
+
+}
@@ -0,0 +1,21 @@
+package schemacrawler.spring.boot.ext.warmup;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+@Data
+public class CatalogWarmupProperties {
+
+	/** Crawl every configured database type in the background once the application is ready. */
+	private boolean enabled = false;
+	/** Delay before the first warm-up crawl. */
+	private Duration initialDelay = Duration.ZERO;
+	/** Delay between the starts of consecutive warm-up crawls, which never run concurrently. */
+	private Duration stagger = Duration.ofSeconds(5);
+	/** Time budget of the whole warm-up, after which the remaining crawls are abandoned. */
+	private Duration timeout = Duration.ofMinutes(5);
+	/** Refuse traffic through the readiness state until the warm-up has completed or timed out. */
+	private boolean holdReadiness = true;
+
+}
@@ -0,0 +1,72 @@
+package schemacrawler.spring.boot.utils;
+
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
+
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+/**
+ * Switches schema retrieval from per-table {@code DatabaseMetaData} calls to the set-based data
+ * dictionary queries shipped by the SchemaCrawler database plugins ({@code ALL_TAB_COLUMNS} for
+ * Oracle, {@code sys.columns} for SQL Server, {@code information_schema} for PostgreSQL), so that
+ * each kind of object is loaded with a single query for all tables. Kinds without a query in the
+ * matched plugin keep the metadata strategy.
+ * @author hiwepy
+ */
+public final class BulkRetrieval {
+
+	private static final Logger LOG = LoggerFactory.getLogger(BulkRetrieval.class);
+	private static final Map<SchemaInfoMetadataRetrievalStrategy, InformationSchemaKey> QUERIES = new LinkedHashMap<SchemaInfoMetadataRetrievalStrategy, InformationSchemaKey>();
+
+	static {
+		QUERIES.put(tablesRetrievalStrategy, InformationSchemaKey.TABLES);
+		QUERIES.put(tableColumnsRetrievalStrategy, InformationSchemaKey.TABLE_COLUMNS);
+		QUERIES.put(primaryKeysRetrievalStrategy, InformationSchemaKey.PRIMARY_KEYS);
+		QUERIES.put(indexesRetrievalStrategy, InformationSchemaKey.INDEXES);
+		QUERIES.put(foreignKeysRetrievalStrategy, InformationSchemaKey.FOREIGN_KEYS);
+	}
+
+	/**
+	 * @param connection The JDBC connection, used to match the database plugin
+	 * @return The retrieval options of the matched plugin, with bulk retrieval where available
+	 */
+	public static SchemaRetrievalOptions of(Connection connection) {
+		return of(SchemaCrawlerUtility.matchSchemaRetrievalOptions(connection));
+	}
+
+	/**
+	 * @param options The database-specific retrieval options, including the plugin's data dictionary queries
+	 * @return The retrieval options with bulk retrieval for every kind of object that has a query
+	 */
+	public static SchemaRetrievalOptions of(SchemaRetrievalOptions options) {
+		final InformationSchemaViews views = options.getInformationSchemaViews();
+		final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder().fromOptions(options);
+		for (Map.Entry<SchemaInfoMetadataRetrievalStrategy, InformationSchemaKey> entry : QUERIES.entrySet()) {
+			if (views.hasQuery(entry.getValue())) {
+				builder.with(entry.getKey(), MetadataRetrievalStrategy.data_dictionary_all);
+				LOG.debug("Bulk retrieval of {} from {}", entry.getValue(), options.getDatabaseServerType());
+			}
+		}
+		return builder.toOptions();
+	}
+
+	private BulkRetrieval() {
+	}
+
+}
@@ -0,0 +1,47 @@
+package schemacrawler.spring.boot.utils;
+
+import schemacrawler.spring.boot.ext.NamePattern;
+import schemacrawler.spring.boot.ext.RuleType;
+import schemacrawler.spring.boot.ext.SchemaCrawlerInclusionRule;
+
+/**
+ * Translates simple inclusion rules into JDBC metadata search patterns, so that the database only
+ * returns candidate rows. The inclusion rules are still applied to the returned rows, so a search
+ * pattern only has to select a superset of the included objects.
+ * @author hiwepy
+ */
+public final class InclusionRulePushdown {
+
+	/**
+	 * @param tableRule The table inclusion rule, matched against the full names of the tables
+	 * @return The {@code tableNamePattern} for {@code DatabaseMetaData#getTables}, or null if the rule can not be pushed down
+	 */
+	public static String tableNamePattern(SchemaCrawlerInclusionRule tableRule) {
+		if (tableRule == null || !RuleType.REGULAR_EXPRESSION.equals(tableRule.getType())) {
+			return null;
+		}
+		final NamePattern include = NamePattern.compile(tableRule.getPatternInclude());
+		final String literal = include.getLiteral();
+		if (literal == null || hasQuotes(literal)) {
+			return null;
+		}
+		final int dot = literal.lastIndexOf('.');
+		if (NamePattern.Kind.LITERAL.equals(include.getKind())) {
+			return literal.substring(dot + 1);
+		}
+		// A prefix without a dot may only select schemas, which are filtered per schema already
+		if (dot < 0 || dot == literal.length() - 1) {
+			return null;
+		}
+		return literal.substring(dot + 1) + "%";
+	}
+
+	private static boolean hasQuotes(String name) {
+		return name.indexOf('"') >= 0 || name.indexOf('`') >= 0 || name.indexOf('[') >= 0;
+	}
+
+	private InclusionRulePushdown() {
+		// Prevent instantiation
+	}
+
+}
@@ -6,7 +6,9 @@ import java.util.List;
 import schemacrawler.inclusionrule.IncludeAll;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schemacrawler.FilterOptionsBuilder;
+import schemacrawler.schemacrawler.GrepOptions;
 import schemacrawler.schemacrawler.GrepOptionsBuilder;
+import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptions;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
@@ -14,6 +16,9 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.SchemaCrawlerInclusionRule;
+import schemacrawler.spring.boot.ext.SchemaCrawlerInclusionRules;
 /**
  * SchemaCrawler utility methods.
  * @author hiwepy
@@ -117,6 +122,73 @@ public final class SchemaCrawlerOptionBuilder {
 		
 	}
 
+	/**
+	 * Build the SchemaCrawlerOptions of a database type from its inclusion rules.
+	 * @param crawlerOptions The configured options of the database type
+	 * @return The SchemaCrawlerOptions built from the rules, or the configured options if there are no rules
+	 */
+	public static SchemaCrawlerOptions fromRules(DatabaseSchemaCrawlerOptions crawlerOptions) {
+		// 获取自定义的规则
+		SchemaCrawlerInclusionRules rules = crawlerOptions.getRules();
+		if (rules == null) {
+			return crawlerOptions.getOptions();
+		}
+
+		final GrepOptions grepOptions = GrepOptionsBuilder.builder()
+				/*
+				 * InclusionRule grepColumnInclusionRule; InclusionRule
+				 * grepRoutineColumnInclusionRule; InclusionRule grepDefinitionInclusionRule;
+				 */
+				.includeGreppedColumns(inclusionRule(rules.getGrepColumnInclusionRule()))
+				.includeGreppedDefinitions(inclusionRule(rules.getGrepDefinitionInclusionRule()))
+		// .includeGreppedRoutineColumns(inclusionRule(rules.getGrepRoutineColumnInclusionRule()))
+				.toOptions();
+
+		final LimitOptionsBuilder limitOptionsBuilder = LimitOptionsBuilder.builder()
+				// Set what details are required in the schema - this affects the
+				/*
+				 * InclusionRule schemaInclusionRule; InclusionRule synonymInclusionRule; InclusionRule sequenceInclusionRule;
+				 */
+				.includeSchemas(inclusionRule(rules.getSchemaInclusionRule()))
+				.includeSequences(inclusionRule(rules.getSequenceInclusionRule()))
+				.includeSynonyms(inclusionRule(rules.getSynonymInclusionRule()))
+				/*
+				 * InclusionRule tableInclusionRule; InclusionRule columnInclusionRule;
+				 */
+				.includeTables(inclusionRule(rules.getTableInclusionRule()))
+				.includeColumns(inclusionRule(rules.getColumnInclusionRule()))
+				/*
+				 * InclusionRule routineInclusionRule; InclusionRule routineColumnInclusionRule;
+				 */
+				// .includeRoutineColumns(inclusionRule(rules.getRoutineColumnInclusionRule()))
+				.includeRoutines(inclusionRule(rules.getRoutineInclusionRule()));
+
+		// 简单的表名规则下推为元数据查询的 tableNamePattern，减少数据库返回的行数
+		final String tableNamePattern = crawlerOptions.isPushdown() ? InclusionRulePushdown.tableNamePattern(rules.getTableInclusionRule()) : null;
+		if (tableNamePattern != null) {
+			limitOptionsBuilder.tableNamePattern(tableNamePattern);
+		}
+		final LimitOptions limitOptions = limitOptionsBuilder.toOptions();
+
+		LoadOptions loadOptions = LoadOptionsBuilder.builder()
+				.withSchemaInfoLevel(SchemaInfoLevelBuilder.standard()).toOptions();
+
+		return SchemaCrawlerOptionsBuilder
+				.newSchemaCrawlerOptions()
+				.withFilterOptions(FilterOptionsBuilder.newFilterOptions())
+				.withGrepOptions(grepOptions)
+				.withLimitOptions(limitOptions)
+				.withLoadOptions(loadOptions);
+	}
+
+	/**
+	 * @param rule The configured rule, may be null
+	 * @return The InclusionRule of the rule, or null to keep the SchemaCrawler default
+	 */
+	private static InclusionRule inclusionRule(SchemaCrawlerInclusionRule rule) {
+		return rule == null ? null : rule.inclusionRule();
+	}
+
 	private SchemaCrawlerOptionBuilder() {
 		// Prevent instantiation
 	}
@@ -0,0 +1,48 @@
+package schemacrawler.spring.boot.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Pattern;
+
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import us.fatehi.utility.ObjectToString;
+
+/**
+ * Computes a stable fingerprint of the effective {@link SchemaCrawlerOptions}, so that
+ * equal options built from different instances produce the same cache key. Inclusion rules
+ * other than the SchemaCrawler value types (regular expressions, include all and exclude all)
+ * or rules with their own toString() keep their identity hash code, so that distinct lambda
+ * or custom rules never share a cached catalog.
+ * @author hiwepy
+ */
+public final class SchemaCrawlerOptionFingerprint {
+
+	/** Identity hash codes printed by RegularExpressionRule, whose patterns follow them */
+	private static final Pattern IDENTITY_HASH = Pattern.compile("(RegularExpressionRule)@[0-9a-f]{4,8}\\b");
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	public static String of(final SchemaCrawlerOptions options) {
+		if (options == null) {
+			return "";
+		}
+		final String text = IDENTITY_HASH.matcher(ObjectToString.toString(options)).replaceAll("$1");
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+			final char[] chars = new char[digest.length * 2];
+			for (int i = 0; i < digest.length; i++) {
+				chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+				chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+			}
+			return new String(chars);
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is required on every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private SchemaCrawlerOptionFingerprint() {
+		// Prevent instantiation
+	}
+
+}
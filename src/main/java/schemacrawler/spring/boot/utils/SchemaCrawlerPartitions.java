@@ -0,0 +1,179 @@
+package schemacrawler.spring.boot.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import schemacrawler.inclusionrule.ExcludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+
+/**
+ * Splits SchemaCrawlerOptions into per-schema and per-batch options, so that the schemas and the tables
+ * of a database can be crawled independently.
+ * @author hiwepy
+ */
+public final class SchemaCrawlerPartitions {
+
+	/**
+	 * @param options The SchemaCrawler options
+	 * @return Options that only retrieve the schemas selected by the schema inclusion rule of the given options
+	 */
+	public static SchemaCrawlerOptions schemasOnly(SchemaCrawlerOptions options) {
+		// Set what details are required in the schema - this affects the time taken to crawl the schema
+		SchemaInfoLevelBuilder schemaInfoLevelBuilder = SchemaInfoLevelBuilder.builder()
+				.setRetrieveTables(false)
+				.setRetrieveRoutines(false);
+		LoadOptions loadOptions = LoadOptionsBuilder.builder().withSchemaInfoLevelBuilder(schemaInfoLevelBuilder).toOptions();
+		final LimitOptionsBuilder limitOptionsBuilder = LimitOptionsBuilder.builder()
+				.fromOptions(options.getLimitOptions())
+				.includeTables(new ExcludeAll())
+				.includeRoutines(new ExcludeAll());
+		return options.withLimitOptions(limitOptionsBuilder.toOptions()).withLoadOptions(loadOptions);
+	}
+
+	/**
+	 * @param options The SchemaCrawler options
+	 * @param schemaFullName The full name of the schema, as returned by {@code Schema#getFullName()}
+	 * @return The given options, restricted to the single schema
+	 */
+	public static SchemaCrawlerOptions forSchema(SchemaCrawlerOptions options, String schemaFullName) {
+		final LimitOptionsBuilder limitOptionsBuilder = LimitOptionsBuilder.builder()
+				.fromOptions(options.getLimitOptions())
+				.includeSchemas(new RegularExpressionInclusionRule(Pattern.quote(schemaFullName)));
+		return options.withLimitOptions(limitOptionsBuilder.toOptions());
+	}
+
+	/**
+	 * @param options The SchemaCrawler options
+	 * @return Options that only retrieve the tables selected by the given options, without their columns
+	 */
+	public static SchemaCrawlerOptions tablesOnly(SchemaCrawlerOptions options) {
+		// Set what details are required in the schema - this affects the time taken to crawl the schema
+		SchemaInfoLevelBuilder schemaInfoLevelBuilder = SchemaInfoLevelBuilder.builder()
+				.setRetrieveTables(true)
+				.setRetrieveTableColumns(false)
+				.setRetrieveRoutines(false);
+		LoadOptions loadOptions = LoadOptionsBuilder.builder().withSchemaInfoLevelBuilder(schemaInfoLevelBuilder).toOptions();
+		final LimitOptionsBuilder limitOptionsBuilder = LimitOptionsBuilder.builder()
+				.fromOptions(options.getLimitOptions())
+				.includeRoutines(new ExcludeAll());
+		return options.withLimitOptions(limitOptionsBuilder.toOptions()).withLoadOptions(loadOptions);
+	}
+
+	/**
+	 * @param options The SchemaCrawler options
+	 * @param tableFullNames The full names of the tables, as returned by {@code Table#getFullName()}
+	 * @return The given options, restricted to the tables, without routines
+	 */
+	public static SchemaCrawlerOptions forTables(SchemaCrawlerOptions options, Collection<String> tableFullNames) {
+		return forTables(options, tableFullNames, null);
+	}
+
+	/**
+	 * @param options The SchemaCrawler options
+	 * @param tableFullNames The full names of the tables, as returned by {@code Table#getFullName()}
+	 * @param tableNamePattern The {@code tableNamePattern} for {@code DatabaseMetaData#getTables} selecting the tables,
+	 *        see {@link #tableNamePattern(Collection)}, or null to keep the one of the given options
+	 * @return The given options, restricted to the tables, without routines
+	 */
+	public static SchemaCrawlerOptions forTables(SchemaCrawlerOptions options, Collection<String> tableFullNames, String tableNamePattern) {
+		final StringBuilder pattern = new StringBuilder();
+		for (String tableFullName : tableFullNames) {
+			if (pattern.length() > 0) {
+				pattern.append('|');
+			}
+			pattern.append(Pattern.quote(tableFullName));
+		}
+		final LimitOptionsBuilder limitOptionsBuilder = LimitOptionsBuilder.builder()
+				.fromOptions(options.getLimitOptions())
+				.includeTables(new RegularExpressionInclusionRule(pattern.toString()))
+				.includeRoutines(new ExcludeAll());
+		if (tableNamePattern != null) {
+			limitOptionsBuilder.tableNamePattern(tableNamePattern);
+		}
+		return options.withLimitOptions(limitOptionsBuilder.toOptions());
+	}
+
+	/**
+	 * Split the tables of a schema into batches of tables sharing a name prefix, so that the database only lists
+	 * the tables of a batch, or a few more, when the batch is crawled with its {@link #tableNamePattern(Collection)}.
+	 * @param tableNames The names of the tables of a schema, as returned by {@code Table#getName()}
+	 * @param batchSize The maximum number of tables of a batch
+	 * @return The batches of table names
+	 */
+	public static List<List<String>> byNamePrefix(Collection<String> tableNames, int batchSize) {
+		final List<String> sorted = new ArrayList<String>(tableNames);
+		Collections.sort(sorted);
+		final List<List<String>> batches = new ArrayList<List<String>>();
+		partition(sorted, 0, Math.max(1, batchSize), batches);
+		return batches;
+	}
+
+	/**
+	 * @param tableNames The names of the tables of a batch, as returned by {@code Table#getName()}
+	 * @return The {@code tableNamePattern} selecting the tables by their common prefix, or null if they have none. The
+	 *         pattern may select more tables, as {@code _} and {@code %} in the names are not escaped.
+	 */
+	public static String tableNamePattern(Collection<String> tableNames) {
+		String prefix = null;
+		for (String tableName : tableNames) {
+			if (prefix == null) {
+				prefix = tableName;
+			}
+			int length = 0;
+			while (length < Math.min(prefix.length(), tableName.length()) && prefix.charAt(length) == tableName.charAt(length)) {
+				length++;
+			}
+			prefix = prefix.substring(0, length);
+		}
+		if (prefix == null || prefix.isEmpty()) {
+			return null;
+		}
+		return tableNames.size() == 1 ? prefix : prefix + "%";
+	}
+
+	/**
+	 * Split names sharing a prefix of the given length by their next character, merging the groups that fit in a batch.
+	 */
+	private static void partition(List<String> names, int prefixLength, int batchSize, List<List<String>> batches) {
+		if (names.size() <= batchSize) {
+			batches.add(names);
+			return;
+		}
+		List<String> merged = new ArrayList<String>();
+		for (int from = 0, to; from < names.size(); from = to) {
+			to = from + 1;
+			if (names.get(from).length() > prefixLength) {
+				final char next = names.get(from).charAt(prefixLength);
+				while (to < names.size() && names.get(to).length() > prefixLength && names.get(to).charAt(prefixLength) == next) {
+					to++;
+				}
+			}
+			final List<String> group = names.subList(from, to);
+			if (group.size() > batchSize) {
+				partition(group, prefixLength + 1, batchSize, batches);
+				continue;
+			}
+			if (merged.size() + group.size() > batchSize) {
+				batches.add(merged);
+				merged = new ArrayList<String>();
+			}
+			merged.addAll(group);
+		}
+		if (!merged.isEmpty()) {
+			batches.add(merged);
+		}
+	}
+
+	private SchemaCrawlerPartitions() {
+		// Prevent instantiation
+	}
+
+}
@@ -0,0 +1,79 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
+
+import java.sql.Connection;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.spring.boot.utils.BulkRetrieval;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+public class BulkRetrievalTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("bulk");
+	private final JDBCDataSource dataSource = database.getDataSource();
+
+	@Before
+	public void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(40).indexesPerTable(2).generate(dataSource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	@Test
+	public void sameCatalogAsMetadataRetrieval() throws Exception {
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(new SchemaCrawlerProperties());
+		final SchemaCrawlerOptions options = SchemaCrawlerOptionBuilder.standard().withLimitOptions(LimitOptionsBuilder.builder()
+				.includeSchemas(new RegularExpressionInclusionRule(".*\\.SYNTHETIC")).toOptions());
+		try (Connection connection = dataSource.getConnection()) {
+			final Catalog metadata = template.crawl(connection, SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(), options);
+			final Catalog bulk = template.crawl(connection, BulkRetrieval.of(connection), options);
+
+			assertEquals(metadata.getTables().size(), bulk.getTables().size());
+			for (Table table : metadata.getTables()) {
+				final Table bulkTable = bulk.lookupTable(table.getSchema(), table.getName()).get();
+				assertEquals(table.getColumns().size(), bulkTable.getColumns().size());
+				assertEquals(table.getIndexes().size(), bulkTable.getIndexes().size());
+				assertEquals(table.getImportedForeignKeys().size(), bulkTable.getImportedForeignKeys().size());
+			}
+		}
+	}
+
+	@Test
+	public void bulkRetrievalForKindsWithQueries() {
+		final SchemaRetrievalOptions options = SchemaRetrievalOptionsBuilder.builder()
+				.withInformationSchemaViews(InformationSchemaViewsBuilder.builder()
+						.withSql(InformationSchemaKey.TABLE_COLUMNS, "SELECT * FROM INFORMATION_SCHEMA.COLUMNS")
+						.withSql(InformationSchemaKey.INDEXES, "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO")
+						.toOptions())
+				.toOptions();
+		final SchemaRetrievalOptions bulk = BulkRetrieval.of(options);
+
+		assertEquals(MetadataRetrievalStrategy.data_dictionary_all, bulk.get(tableColumnsRetrievalStrategy));
+		assertEquals(MetadataRetrievalStrategy.data_dictionary_all, bulk.get(indexesRetrievalStrategy));
+		assertEquals(MetadataRetrievalStrategy.metadata, bulk.get(tablesRetrievalStrategy));
+		assertEquals(MetadataRetrievalStrategy.metadata, bulk.get(foreignKeysRetrievalStrategy));
+	}
+
+}
@@ -0,0 +1,100 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.spring.boot.ext.cache.CatalogCache;
+import schemacrawler.spring.boot.ext.cache.CatalogCacheKey;
+import schemacrawler.spring.boot.ext.cache.CatalogCacheProperties;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionFingerprint;
+
+public class CatalogCacheTest {
+
+	private CatalogCacheProperties properties;
+	private CatalogCache cache;
+
+	@Before
+	public void setUp() {
+		properties = new CatalogCacheProperties();
+		properties.setEnabled(true);
+		properties.setMaxEntries(2);
+		cache = new CatalogCache(properties);
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		final CatalogCacheKey key1 = new CatalogCacheKey("jdbc:hsqldb:mem:a|SA", "1");
+		final CatalogCacheKey key2 = new CatalogCacheKey("jdbc:hsqldb:mem:a|SA", "2");
+		final CatalogCacheKey key3 = new CatalogCacheKey("jdbc:hsqldb:mem:b|SA", "1");
+		final Catalog catalog1 = mock(Catalog.class);
+
+		cache.put(key1, catalog1);
+		cache.put(key2, mock(Catalog.class));
+		// touch key1 so that key2 becomes the eldest
+		assertSame(catalog1, cache.get(key1));
+		cache.put(key3, mock(Catalog.class));
+
+		assertEquals(2, cache.size());
+		assertSame(catalog1, cache.get(key1));
+		assertNull(cache.get(key2));
+	}
+
+	@Test
+	public void expireAfterTimeToLive() throws Exception {
+		properties.setTimeToLive(Duration.ofMillis(10));
+		final CatalogCacheKey key = new CatalogCacheKey("jdbc:hsqldb:mem:a|SA", "1");
+		cache.put(key, mock(Catalog.class));
+		Thread.sleep(50);
+		assertNull(cache.get(key));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void evictByWeight() {
+		properties.setMaxEntries(0);
+		// an empty catalog weighs 1
+		properties.setMaxWeight(2);
+		cache.put(new CatalogCacheKey("a", "1"), mock(Catalog.class));
+		cache.put(new CatalogCacheKey("a", "2"), mock(Catalog.class));
+		cache.put(new CatalogCacheKey("a", "3"), mock(Catalog.class));
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.weight());
+	}
+
+	@Test
+	public void equalRulesShareFingerprint() {
+		assertEquals(
+				SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.tablecolumns(new RegularExpressionInclusionRule(".*\\.A"))),
+				SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.tablecolumns(new RegularExpressionInclusionRule(".*\\.A"))));
+		assertNotEquals(
+				SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.tablecolumns(new RegularExpressionInclusionRule(".*\\.A"))),
+				SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.tablecolumns(new RegularExpressionInclusionRule(".*\\.B"))));
+		assertEquals(SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.tablecolumns(new IncludeAll())),
+				SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.tablecolumns(new IncludeAll())));
+	}
+
+	@Test
+	public void customRulesKeepTheirIdentity() {
+		// Same lambda, different captured schema: the rules print the same apart from their identity hash
+		assertNotEquals(SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.tablecolumns(schemaRule("A"))),
+				SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.tablecolumns(schemaRule("B"))));
+	}
+
+	private static InclusionRule schemaRule(String schema) {
+		return name -> name.endsWith("." + schema);
+	}
+
+}
@@ -0,0 +1,63 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.spring.boot.ext.cache.CatalogChangeDetector;
+
+public class CatalogChangeDetectorTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("changes");
+
+	@Before
+	public void setUp() throws Exception {
+		database.execute("CREATE TABLE ORDERS (ID INTEGER PRIMARY KEY, AMOUNT INTEGER)");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	@Test
+	public void markerFollowsNamesAndTypes() throws Exception {
+		final String query = CatalogChangeDetector.getQuery("hsqldb", null, new IncludeAll());
+		final String marker = detect(query);
+		assertNotNull(marker);
+		assertEquals(marker, detect(query));
+
+		// Same number of tables, columns and routines
+		database.execute("ALTER TABLE ORDERS ALTER COLUMN AMOUNT RENAME TO TOTAL");
+		final String renamed = detect(query);
+		assertNotEquals(marker, renamed);
+
+		database.execute("ALTER TABLE ORDERS ALTER COLUMN TOTAL SET DATA TYPE BIGINT");
+		assertNotEquals(renamed, detect(query));
+	}
+
+	@Test
+	public void schemasAreReplacedByTheSchemaInclusionPattern() {
+		final String hr = CatalogChangeDetector.getQuery("oracle", null, new RegularExpressionInclusionRule("HR|SALES"));
+		assertTrue(hr, hr.endsWith("WHERE REGEXP_LIKE(OWNER, 'HR|SALES')"));
+		final String all = CatalogChangeDetector.getQuery("oracle", null, new IncludeAll());
+		assertTrue(all, all.endsWith("WHERE REGEXP_LIKE(OWNER, '.*')"));
+		assertEquals("SELECT 1", CatalogChangeDetector.getQuery("oracle", "SELECT 1", null));
+	}
+
+	private String detect(String query) throws Exception {
+		try (Connection connection = database.getDataSource().getConnection()) {
+			return CatalogChangeDetector.detect(connection, query);
+		}
+	}
+
+}
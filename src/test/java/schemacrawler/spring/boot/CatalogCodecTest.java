@@ -0,0 +1,88 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.spring.boot.ext.codec.CatalogCodec;
+import schemacrawler.spring.boot.ext.codec.CatalogCodec.Compression;
+
+public class CatalogCodecTest {
+
+	private static final HsqldbDatabase DATABASE = HsqldbDatabase.inMemory("codec");
+	private static Catalog catalog;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(200).views(10).generate(DATABASE.getDataSource());
+		catalog = new SchemaCrawlerTemplate(new SchemaCrawlerProperties()).crawl(DATABASE.getDataSource(),
+				new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll());
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		DATABASE.close();
+	}
+
+	@Test
+	public void roundTrip() throws Exception {
+		final int serialized = SerializationUtils.serialize(catalog).length;
+		for (Compression compression : Compression.values()) {
+			final CatalogCodec codec = new CatalogCodec(compression);
+			final byte[] encoded = codec.encode(catalog);
+			assertTrue(compression + " encoding is not smaller than Java serialization", encoded.length < serialized);
+
+			final Catalog decoded = codec.decode(encoded);
+			assertNotNull("Could not decode catalog", decoded);
+			final Schema schema = decoded.lookupSchema("PUBLIC.SYNTHETIC").orElse(null);
+			assertNotNull("Could not obtain schema", schema);
+			assertEquals(210, decoded.getTables(schema).size());
+		}
+	}
+
+	@Test
+	public void codecThreadsAreReused() throws Exception {
+		final CatalogCodec codec = new CatalogCodec();
+		for (int i = 0; i < 10; i++) {
+			codec.decode(codec.encode(catalog));
+		}
+		int codecThreads = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith("schemacrawler-codec-")) {
+				codecThreads++;
+			}
+		}
+		assertTrue(codecThreads + " codec threads", codecThreads > 0 && codecThreads <= 4);
+	}
+
+	@Test
+	public void readsJavaSerialization() throws Exception {
+		final Catalog decoded = new CatalogCodec().decode(SerializationUtils.serialize(catalog));
+		assertEquals(catalog.getTables().size(), decoded.getTables().size());
+	}
+
+	@Test(expected = InvalidClassException.class)
+	public void rejectsClassesOutsideTheCatalogModel() throws Exception {
+		new CatalogCodec().decode(SerializationUtils.serialize(new MutableInt(1)));
+	}
+
+	@Test(expected = IOException.class)
+	public void rejectsGarbage() throws Exception {
+		new CatalogCodec().read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+	}
+
+}
@@ -0,0 +1,136 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.ReadinessState;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.cache.CatalogCache;
+import schemacrawler.spring.boot.ext.warmup.CatalogWarmer;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+public class CatalogWarmupTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("warmup");
+	private final JDBCDataSource dataSource = database.getDataSource();
+	private SchemaCrawlerProperties properties;
+	private SchemaCrawlerTemplate template;
+	private List<AvailabilityState> states;
+
+	@Before
+	public void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(10).generate(dataSource);
+		properties = new SchemaCrawlerProperties();
+		properties.getCache().setEnabled(true);
+		final DatabaseSchemaCrawlerOptions crawlerOptions = new DatabaseSchemaCrawlerOptions();
+		crawlerOptions.setType("hsqldb");
+		crawlerOptions.setOptions(SchemaCrawlerOptionBuilder.tablecolumns(new RegularExpressionInclusionRule(".*\\.SYNTHETIC")));
+		properties.getCrawlerOptions().add(crawlerOptions);
+		template = new SchemaCrawlerTemplate(properties);
+		template.setCatalogCache(new CatalogCache(properties.getCache()));
+		states = new CopyOnWriteArrayList<AvailabilityState>();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	private CatalogWarmer warmer() {
+		return warmer(dataSource);
+	}
+
+	private CatalogWarmer warmer(DataSource dataSource) {
+		return new CatalogWarmer(properties.getWarmup(), template, properties.getCrawlerOptions(), dataSource,
+				event -> states.add(((AvailabilityChangeEvent<?>) event).getState()));
+	}
+
+	@Test
+	public void populatesCacheAndHoldsReadiness() throws Exception {
+		final CatalogWarmer warmer = warmer();
+		warmer.start();
+		// Spring Boot accepts traffic right after the ready event
+		warmer.onApplicationEvent(new AvailabilityChangeEvent<ReadinessState>(this, ReadinessState.ACCEPTING_TRAFFIC));
+		awaitWarmup(warmer);
+
+		assertEquals(1, template.getCatalogCache().size());
+		assertEquals(ReadinessState.REFUSING_TRAFFIC, states.get(0));
+		assertEquals(ReadinessState.ACCEPTING_TRAFFIC, states.get(states.size() - 1));
+		warmer.destroy();
+	}
+
+	@Test
+	public void readinessIsReleasedOnTimeout() throws Exception {
+		properties.getWarmup().setInitialDelay(Duration.ofMinutes(1));
+		properties.getWarmup().setTimeout(Duration.ofMillis(200));
+		final CatalogWarmer warmer = warmer();
+		warmer.start();
+		awaitWarmup(warmer);
+
+		assertEquals(0, template.getCatalogCache().size());
+		assertEquals(new ArrayList<AvailabilityState>(states).toString(), ReadinessState.ACCEPTING_TRAFFIC, states.get(states.size() - 1));
+		assertTrue(warmer.getRemaining() > 0);
+		warmer.destroy();
+	}
+
+	@Test
+	public void readinessIsReleasedWhileCrawlBlocks() throws Exception {
+		properties.getWarmup().setInitialDelay(Duration.ZERO);
+		properties.getWarmup().setTimeout(Duration.ofMillis(200));
+		final CountDownLatch connecting = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final DataSource blocking = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+					if ("getConnection".equals(method.getName())) {
+						connecting.countDown();
+						release.await();
+					}
+					try {
+						return method.invoke(dataSource, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+		final CatalogWarmer warmer = warmer(blocking);
+		try {
+			warmer.start();
+			assertTrue(connecting.await(10, TimeUnit.SECONDS));
+			awaitWarmup(warmer);
+
+			assertEquals(ReadinessState.ACCEPTING_TRAFFIC, states.get(states.size() - 1));
+			assertEquals(0, template.getCatalogCache().size());
+		} finally {
+			release.countDown();
+			warmer.destroy();
+		}
+	}
+
+	private void awaitWarmup(CatalogWarmer warmer) throws InterruptedException {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (warmer.isPending() && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertFalse("Warm-up still pending", warmer.isPending());
+	}
+
+}
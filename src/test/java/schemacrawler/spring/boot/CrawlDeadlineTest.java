@@ -0,0 +1,85 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.spring.boot.ext.concurrent.CrawlDeadline;
+import schemacrawler.spring.boot.ext.concurrent.CrawlTimeoutException;
+
+public class CrawlDeadlineTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("deadline");
+	private final JDBCDataSource dataSource = database.getDataSource();
+	private final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(new SchemaCrawlerProperties());
+
+	@Before
+	public void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(10).generate(dataSource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	@Test
+	public void crawlWithinDeadline() throws Exception {
+		assertNotNull(template.withTimeout(Duration.ofMinutes(1)).crawl(dataSource,
+				new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll()));
+	}
+
+	@Test
+	public void expiredDeadline() throws Exception {
+		try {
+			template.withTimeout(Duration.ZERO).crawl(dataSource, new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll());
+			fail("Crawl should have timed out");
+		} catch (CrawlTimeoutException e) {
+			assertFalse(e.isCancelled());
+		}
+	}
+
+	@Test
+	public void cancelledCrawl() throws Exception {
+		final CrawlDeadline deadline = CrawlDeadline.after(Duration.ofMinutes(1));
+		deadline.cancel();
+		try {
+			template.withDeadline(deadline).crawl(dataSource, new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll());
+			fail("Crawl should have been cancelled");
+		} catch (CrawlTimeoutException e) {
+			assertTrue(e.isCancelled());
+		}
+	}
+
+	@Test
+	public void statementsObserveDeadline() throws Exception {
+		final CrawlDeadline deadline = CrawlDeadline.after(Duration.ofSeconds(30));
+		try (Connection connection = deadline.apply(dataSource.getConnection());
+				Statement statement = connection.createStatement()) {
+			assertTrue(statement.getQueryTimeout() > 0 && statement.getQueryTimeout() <= 30);
+			assertTrue(statement.execute("SELECT COUNT(*) FROM SYNTHETIC.T0"));
+			deadline.cancel();
+			try {
+				statement.execute("SELECT COUNT(*) FROM SYNTHETIC.T0");
+				fail("Statement should not run after cancellation");
+			} catch (SQLTimeoutException e) {
+				assertEquals("Crawl cancelled", e.getMessage());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import schemacrawler.spring.boot.ext.concurrent.CrawlExecutor;
+import schemacrawler.spring.boot.ext.concurrent.CrawlExecutorProperties;
+
+public class CrawlExecutorTest {
+
+	@Test
+	public void platformThreadsGrowToTheMaximumBeforeQueueing() throws Exception {
+		final CrawlExecutorProperties properties = new CrawlExecutorProperties();
+		properties.setVirtualThreads(false);
+		properties.setMaxPoolSize(4);
+		final CrawlExecutor executor = new CrawlExecutor(properties);
+		final CountDownLatch started = new CountDownLatch(4);
+		final CountDownLatch release = new CountDownLatch(1);
+		try {
+			assertFalse(executor.isVirtual());
+			for (int i = 0; i < 4; i++) {
+				executor.execute(() -> {
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+			executor.destroy();
+		}
+	}
+
+}
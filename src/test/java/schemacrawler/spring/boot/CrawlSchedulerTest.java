@@ -0,0 +1,76 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import schemacrawler.spring.boot.ext.concurrent.CrawlRejectedException;
+import schemacrawler.spring.boot.ext.concurrent.CrawlScheduler;
+import schemacrawler.spring.boot.ext.concurrent.CrawlSchedulerProperties;
+
+public class CrawlSchedulerTest {
+
+	private final CrawlScheduler scheduler = new CrawlScheduler(enabled());
+
+	private static CrawlSchedulerProperties enabled() {
+		final CrawlSchedulerProperties properties = new CrawlSchedulerProperties();
+		properties.setEnabled(true);
+		return properties;
+	}
+
+	@Test(expected = CrawlRejectedException.class)
+	public void rejectsAfterQueueTimeout() throws Exception {
+		final CrawlScheduler.Permit permit = scheduler.acquire("db", 1, null);
+		try {
+			scheduler.acquire("db", 1, Duration.ofMillis(50));
+		} finally {
+			permit.close();
+			assertEquals(1, scheduler.getRejections());
+		}
+	}
+
+	@Test
+	public void sourcesAreLimitedIndependently() throws Exception {
+		final CrawlScheduler.Permit first = scheduler.acquire("db1", 1, null);
+		final CrawlScheduler.Permit second = scheduler.acquire("db2", 1, Duration.ofMillis(50));
+		try {
+			assertEquals(2, scheduler.getActiveCrawls());
+		} finally {
+			second.close();
+			first.close();
+		}
+		assertEquals(0, scheduler.getActiveCrawls());
+	}
+
+	@Test
+	public void queuedCrawlStartsWhenPermitIsReleased() throws Exception {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final CrawlScheduler.Permit permit = scheduler.acquire("db", 1, null);
+			final CountDownLatch waiting = new CountDownLatch(1);
+			final Future<Boolean> queued = executor.submit(() -> {
+				waiting.countDown();
+				scheduler.acquire("db", 1, Duration.ofSeconds(10)).close();
+				return true;
+			});
+			waiting.await();
+			while (scheduler.getQueueDepth() == 0) {
+				Thread.sleep(1);
+			}
+			permit.close();
+			assertTrue(queued.get(10, TimeUnit.SECONDS));
+			assertTrue(scheduler.getWaitNanos() > 0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
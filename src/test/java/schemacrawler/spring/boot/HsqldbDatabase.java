@@ -0,0 +1,54 @@
+package schemacrawler.spring.boot;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+
+/**
+ * HyperSQL database of the tests and benchmarks, reached as user SA through a {@link JDBCDataSource}.
+ * Closing it shuts the database down, so that an in-memory database of the same name starts empty again.
+ */
+public class HsqldbDatabase implements AutoCloseable {
+
+	public static final String USERNAME = "SA";
+	public static final String PASSWORD = "";
+
+	private final JDBCDataSource dataSource;
+
+	public HsqldbDatabase(String url) {
+		this.dataSource = new JDBCDataSource();
+		this.dataSource.setUrl(url);
+		this.dataSource.setUser(USERNAME);
+		this.dataSource.setPassword(PASSWORD);
+	}
+
+	/**
+	 * @param name The name of the in-memory database
+	 * @return The in-memory database, created on first connection
+	 */
+	public static HsqldbDatabase inMemory(String name) {
+		return new HsqldbDatabase("jdbc:hsqldb:mem:" + name);
+	}
+
+	public JDBCDataSource getDataSource() {
+		return dataSource;
+	}
+
+	public String getUrl() {
+		return dataSource.getUrl();
+	}
+
+	public void execute(String sql) throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	@Override
+	public void close() throws SQLException {
+		execute("SHUTDOWN");
+	}
+
+}
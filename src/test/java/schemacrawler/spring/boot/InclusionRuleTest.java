@@ -0,0 +1,80 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+import schemacrawler.inclusionrule.RegularExpressionRule;
+import schemacrawler.spring.boot.ext.NamePattern;
+import schemacrawler.spring.boot.ext.RuleType;
+import schemacrawler.spring.boot.ext.SchemaCrawlerInclusionRule;
+import schemacrawler.spring.boot.utils.InclusionRulePushdown;
+
+public class InclusionRuleTest {
+
+	private static final String[] NAMES = { "HR.EMPLOYEES", "HR.EMP_1", "HR.EMPX", "SALES.ORDERS", "hr.employees", "HR", " " };
+
+	@Test
+	public void patternKinds() {
+		assertEquals(NamePattern.Kind.ALL, NamePattern.compile(".*").getKind());
+		assertEquals(NamePattern.Kind.NONE, NamePattern.compile("").getKind());
+		assertEquals(NamePattern.Kind.LITERAL, NamePattern.compile("HR\\.EMPLOYEES").getKind());
+		assertEquals("HR.EMPLOYEES", NamePattern.compile("HR\\.EMPLOYEES").getLiteral());
+		assertEquals(NamePattern.Kind.PREFIX, NamePattern.compile("HR\\.EMP.*").getKind());
+		assertEquals("HR.EMP", NamePattern.compile("HR\\.EMP.*").getLiteral());
+		assertEquals(NamePattern.Kind.REGEX, NamePattern.compile("HR.EMPLOYEES").getKind());
+		assertEquals(NamePattern.Kind.REGEX, NamePattern.compile("HR\\.\\w+").getKind());
+	}
+
+	@Test
+	public void sameResultsAsRegularExpressionRule() {
+		final String[][] patterns = { { ".*", "" }, { "HR\\.EMPLOYEES", "" }, { "HR\\.EMP.*", "HR\\.EMPX" },
+				{ "HR.EMP_[0-9]+", "" }, { ".*", "SALES\\..*" }, { "", "" } };
+		for (String[] pattern : patterns) {
+			final InclusionRule expected = new RegularExpressionRule(pattern[0], pattern[1]);
+			final InclusionRule actual = rule(pattern[0], pattern[1]).inclusionRule();
+			for (String name : NAMES) {
+				assertEquals(pattern[0] + " -" + pattern[1] + " on " + name, expected.test(name), actual.test(name));
+			}
+		}
+	}
+
+	@Test
+	public void compiledRulesAreCached() {
+		assertSame(rule("HR\\..*", "").inclusionRule(), rule("HR\\..*", "").inclusionRule());
+	}
+
+	@Test
+	public void regularExpressionsAreExposed() {
+		final String[][] patterns = { { ".*", "" }, { "HR\\.EMP.*", "HR\\.EMPX" } };
+		for (String[] pattern : patterns) {
+			final RegularExpressionRule expected = new RegularExpressionRule(pattern[0], pattern[1]);
+			final InclusionRuleWithRegularExpression actual = (InclusionRuleWithRegularExpression) rule(pattern[0], pattern[1]).inclusionRule();
+			assertEquals(expected.getInclusionPattern().pattern(), actual.getInclusionPattern().pattern());
+			assertEquals(expected.getExclusionPattern().pattern(), actual.getExclusionPattern().pattern());
+		}
+	}
+
+	@Test
+	public void tableNamePatternPushdown() {
+		assertEquals("EMPLOYEES", InclusionRulePushdown.tableNamePattern(rule("HR\\.EMPLOYEES", "")));
+		assertEquals("EMP%", InclusionRulePushdown.tableNamePattern(rule("HR\\.EMP.*", "HR\\.EMPX")));
+		assertNull(InclusionRulePushdown.tableNamePattern(rule("HR.*", "")));
+		assertNull(InclusionRulePushdown.tableNamePattern(rule(".*", "")));
+		assertNull(InclusionRulePushdown.tableNamePattern(rule("HR\\.EMP_[0-9]+", "")));
+		assertNull(InclusionRulePushdown.tableNamePattern(rule("HR\\.\"My Table\"", "")));
+	}
+
+	private SchemaCrawlerInclusionRule rule(String patternInclude, String patternExclude) {
+		final SchemaCrawlerInclusionRule rule = new SchemaCrawlerInclusionRule();
+		rule.setType(RuleType.REGULAR_EXPRESSION);
+		rule.setPatternInclude(patternInclude);
+		rule.setPatternExclude(patternExclude);
+		return rule;
+	}
+
+}
@@ -0,0 +1,64 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.spring.boot.ext.jdbc.JdbcCallStats;
+import schemacrawler.spring.boot.ext.jdbc.JdbcRoundTripRecorder;
+import schemacrawler.spring.boot.ext.listener.CrawlContext;
+import schemacrawler.spring.boot.ext.listener.CrawlListener;
+
+public class JdbcInstrumentationTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("instrumentation");
+	private final JDBCDataSource dataSource = database.getDataSource();
+
+	@Before
+	public void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(20).generate(dataSource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	@Test
+	public void recordsRoundTrips() throws Exception {
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getInstrumentation().setEnabled(true);
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		final AtomicReference<CrawlContext> completed = new AtomicReference<CrawlContext>();
+		template.setListeners(Collections.<CrawlListener>singletonList(new CrawlListener() {
+			@Override
+			public void onCrawlCompleted(CrawlContext context) {
+				completed.set(context);
+			}
+		}));
+
+		template.crawl(dataSource, new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll());
+
+		final JdbcRoundTripRecorder recorder = completed.get().getRoundTrips();
+		assertNotNull("Round trips not recorded", recorder);
+		assertTrue(recorder.getTotalCalls() > 0);
+		boolean metadata = false;
+		for (JdbcCallStats stats : recorder.getStats()) {
+			metadata |= stats.isMetadata() && stats.getCalls() > 0;
+		}
+		assertTrue("No metadata calls recorded", metadata);
+		// Primary keys, indexes and foreign keys are retrieved per table
+		assertFalse("Per-table calls not reported", recorder.getRepeatedCalls(20).isEmpty());
+	}
+
+}
@@ -0,0 +1,77 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.spring.boot.ext.jfr.JfrCrawlListener;
+import schemacrawler.spring.boot.ext.listener.CrawlListener;
+
+public class JfrEventsTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("jfr");
+	private final JDBCDataSource dataSource = database.getDataSource();
+
+	@Before
+	public void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(10).generate(dataSource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	@Test
+	public void recordsCrawlAndMetadataQueries() throws Exception {
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getJfr().setEnabled(true);
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		template.setListeners(Collections.<CrawlListener>singletonList(new JfrCrawlListener()));
+
+		final File file = File.createTempFile("schemacrawler", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("schemacrawler.Crawl");
+			recording.enable("schemacrawler.MetadataQuery");
+			recording.start();
+			template.crawl(dataSource, new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll());
+			recording.stop();
+			recording.dump(file.toPath());
+		}
+
+		final List<RecordedEvent> events = RecordingFile.readAllEvents(file.toPath());
+		file.delete();
+		int crawls = 0;
+		long rows = 0;
+		for (RecordedEvent event : events) {
+			if ("schemacrawler.Crawl".equals(event.getEventType().getName())) {
+				crawls++;
+				assertEquals("success", event.getString("outcome"));
+				assertEquals(10, event.getInt("tables"));
+			} else if ("schemacrawler.MetadataQuery".equals(event.getEventType().getName())) {
+				rows += event.getLong("rows");
+			}
+		}
+		assertEquals(1, crawls);
+		assertTrue("No metadata query rows recorded", rows > 0);
+	}
+
+	@Test
+	public void disabledByDefault() {
+		assertTrue(!new SchemaCrawlerProperties().getJfr().isEnabled());
+	}
+
+}
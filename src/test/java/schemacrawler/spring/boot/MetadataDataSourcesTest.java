@@ -0,0 +1,56 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.pool.MetadataDataSources;
+import schemacrawler.spring.boot.ext.pool.MetadataPoolProperties;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+public class MetadataDataSourcesTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("pool");
+	private final MetadataDataSources dataSources = new MetadataDataSources(new MetadataPoolProperties());
+	private final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+
+	@Before
+	public void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(10).generate(database.getDataSource());
+		final DatabaseSchemaCrawlerOptions crawlerOptions = new DatabaseSchemaCrawlerOptions();
+		crawlerOptions.setType("hsqldb");
+		crawlerOptions.setUrl(database.getUrl());
+		crawlerOptions.setUsername(HsqldbDatabase.USERNAME);
+		crawlerOptions.setPassword(HsqldbDatabase.PASSWORD);
+		crawlerOptions.setOptions(SchemaCrawlerOptionBuilder.standard());
+		properties.getCrawlerOptions().add(crawlerOptions);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		dataSources.destroy();
+		database.close();
+	}
+
+	@Test
+	public void crawlByDbType() throws Exception {
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		template.setMetadataDataSources(dataSources);
+
+		final Catalog catalog = template.crawl("hsqldb");
+		boolean found = false;
+		for (Table table : catalog.getTables()) {
+			found |= "T0".equals(table.getName());
+		}
+		assertTrue("Synthetic table not crawled", found);
+		assertSame("Pool not reused", dataSources.getDataSource(properties.getCrawlerOptions().get(0)),
+				dataSources.getDataSource(properties.getCrawlerOptions().get(0)));
+	}
+
+}
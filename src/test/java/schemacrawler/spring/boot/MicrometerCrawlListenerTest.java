@@ -0,0 +1,80 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import schemacrawler.spring.boot.SchemaCrawlerAutoConfiguration.SchemaCrawlerMetricsConfiguration;
+import schemacrawler.spring.boot.ext.cache.CatalogCache;
+import schemacrawler.spring.boot.ext.cache.CatalogCacheProperties;
+import schemacrawler.spring.boot.ext.concurrent.CrawlScheduler;
+import schemacrawler.spring.boot.ext.concurrent.CrawlSchedulerProperties;
+import schemacrawler.spring.boot.ext.jdbc.JdbcRoundTripRecorder;
+import schemacrawler.spring.boot.ext.listener.CrawlContext;
+import schemacrawler.spring.boot.ext.metrics.MicrometerCrawlListener;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+public class MicrometerCrawlListenerTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final MicrometerCrawlListener listener = new MicrometerCrawlListener(registry);
+
+	private void crawl(long getTablesNanos, long getColumnsNanos) {
+		final JdbcRoundTripRecorder recorder = new JdbcRoundTripRecorder();
+		recorder.call("getTables", getTablesNanos);
+		recorder.call("getColumns", getColumnsNanos);
+		recorder.call("getColumns", getColumnsNanos);
+		final CrawlContext context = new CrawlContext("hsqldb", SchemaCrawlerOptionBuilder.standard());
+		context.setRoundTrips(recorder);
+		context.fail();
+		listener.onCrawlFailed(context, new IllegalStateException());
+	}
+
+	@Test
+	public void jdbcTimeIsATimerOfTheCalls() {
+		crawl(TimeUnit.MILLISECONDS.toNanos(30), TimeUnit.MILLISECONDS.toNanos(5));
+		crawl(TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(5));
+
+		final FunctionTimer getTables = registry.get(MicrometerCrawlListener.JDBC_TIME).tag("method", "getTables").functionTimer();
+		assertEquals(2, getTables.count(), 0);
+		assertEquals(40, getTables.totalTime(TimeUnit.MILLISECONDS), 0.001);
+		assertEquals(20, getTables.mean(TimeUnit.MILLISECONDS), 0.001);
+
+		final FunctionTimer getColumns = registry.get(MicrometerCrawlListener.JDBC_TIME).tag("method", "getColumns").functionTimer();
+		assertEquals(4, getColumns.count(), 0);
+		assertEquals(20, getColumns.totalTime(TimeUnit.MILLISECONDS), 0.001);
+		assertEquals(4, registry.get(MicrometerCrawlListener.JDBC_CALLS).tag("method", "getColumns").counter().count(), 0);
+	}
+
+	@Test
+	public void cacheMetricsAreBoundWhenTheCacheIsAvailable() {
+		final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		final SchemaCrawlerMetricsConfiguration configuration = new SchemaCrawlerMetricsConfiguration();
+		configuration.catalogCacheMetrics(beanFactory.getBeanProvider(CatalogCache.class)).bindTo(registry);
+		assertNull(registry.find("schemacrawler.cache.size").gauge());
+
+		beanFactory.registerSingleton("catalogCache", new CatalogCache(new CatalogCacheProperties()));
+		configuration.catalogCacheMetrics(beanFactory.getBeanProvider(CatalogCache.class)).bindTo(registry);
+		assertEquals(0, registry.get("schemacrawler.cache.size").gauge().value(), 0);
+	}
+
+	@Test
+	public void schedulerMetricsAreBoundWhenTheSchedulerIsAvailable() {
+		final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		final SchemaCrawlerMetricsConfiguration configuration = new SchemaCrawlerMetricsConfiguration();
+		configuration.crawlSchedulerMetrics(beanFactory.getBeanProvider(CrawlScheduler.class)).bindTo(registry);
+		assertNull(registry.find("schemacrawler.scheduler.queued").gauge());
+
+		beanFactory.registerSingleton("crawlScheduler", new CrawlScheduler(new CrawlSchedulerProperties()));
+		configuration.crawlSchedulerMetrics(beanFactory.getBeanProvider(CrawlScheduler.class)).bindTo(registry);
+		assertEquals(0, registry.get("schemacrawler.scheduler.queued").gauge().value(), 0);
+		assertEquals(0, registry.get("schemacrawler.scheduler.rejections").functionCounter().count(), 0);
+	}
+
+}
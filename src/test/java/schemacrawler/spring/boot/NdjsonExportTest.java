@@ -0,0 +1,140 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.export.CatalogExportServlet;
+import schemacrawler.spring.boot.ext.pool.MetadataDataSources;
+import schemacrawler.spring.boot.ext.pool.MetadataPoolProperties;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+public class NdjsonExportTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("export");
+	private final JDBCDataSource dataSource = database.getDataSource();
+
+	@Before
+	public void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(30).foreignKeysPerTable(2).generate(dataSource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	@Test
+	public void exportTables() throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new SchemaCrawlerTemplate(new SchemaCrawlerProperties()).exportTables(dataSource, "hsqldb", out);
+
+		assertEquals(30, syntheticTables(out.toByteArray()));
+	}
+
+	@Test
+	public void servletExportsThroughMetadataPool() throws Exception {
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		final DatabaseSchemaCrawlerOptions crawlerOptions = new DatabaseSchemaCrawlerOptions();
+		crawlerOptions.setType("hsqldb");
+		crawlerOptions.setUrl(database.getUrl());
+		crawlerOptions.setUsername(HsqldbDatabase.USERNAME);
+		crawlerOptions.setPassword(HsqldbDatabase.PASSWORD);
+		crawlerOptions.setOptions(SchemaCrawlerOptionBuilder.standard());
+		properties.getCrawlerOptions().add(crawlerOptions);
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		final MetadataDataSources dataSources = new MetadataDataSources(new MetadataPoolProperties());
+		template.setMetadataDataSources(dataSources);
+		final HttpServletRequest request = proxy(HttpServletRequest.class, (method, args) -> {
+			if ("getMethod".equals(method)) {
+				return "GET";
+			}
+			return "getParameter".equals(method) && "dbType".equals(args[0]) ? "hsqldb" : null;
+		});
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final List<Object> errors = new ArrayList<Object>();
+		final HttpServletResponse response = proxy(HttpServletResponse.class, (method, args) -> {
+			if ("getOutputStream".equals(method)) {
+				return new ServletOutputStream() {
+
+					@Override
+					public void write(int b) {
+						out.write(b);
+					}
+
+					@Override
+					public boolean isReady() {
+						return true;
+					}
+
+					@Override
+					public void setWriteListener(WriteListener writeListener) {
+					}
+
+				};
+			} else if ("sendError".equals(method)) {
+				errors.add(args[1]);
+			}
+			return "isCommitted".equals(method) ? Boolean.FALSE : null;
+		});
+		try {
+			// Without a connection provider, the export must go through the url of the database type
+			new CatalogExportServlet(template, null).service(request, response);
+		} finally {
+			dataSources.destroy();
+		}
+
+		assertTrue(errors.toString(), errors.isEmpty());
+		assertEquals(30, syntheticTables(out.toByteArray()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> handler) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> handler.apply(method.getName(), args));
+	}
+
+	private int syntheticTables(byte[] ndjson) throws Exception {
+		int tables = 0;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(ndjson), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				final JsonObject table = JsonParser.parseString(line).getAsJsonObject();
+				if (!table.get("fullName").getAsString().contains("SYNTHETIC")) {
+					continue;
+				}
+				tables++;
+				assertTrue(table.getAsJsonArray("columns").size() > 0);
+				assertEquals("ID", table.getAsJsonObject("primaryKey").getAsJsonArray("columns").get(0).getAsString());
+				if (!"T0".equals(table.get("name").getAsString())) {
+					assertTrue(table.getAsJsonArray("foreignKeys").size() > 0);
+				}
+			}
+		}
+		return tables;
+	}
+
+}
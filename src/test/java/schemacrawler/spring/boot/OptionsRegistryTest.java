@@ -0,0 +1,179 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.RuleType;
+import schemacrawler.spring.boot.ext.SchemaCrawlerInclusionRule;
+import schemacrawler.spring.boot.ext.registry.CrawlerOptionsSnapshot;
+import schemacrawler.spring.boot.ext.registry.RegistryInitialization;
+import schemacrawler.spring.boot.ext.registry.SchemaCrawlerOptionsRegistry;
+import schemacrawler.spring.boot.ext.registry.SchemaCrawlerOptionsRegistryInitializer;
+import schemacrawler.spring.boot.ext.registry.SchemaCrawlerOptionsReloader;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionFingerprint;
+
+public class OptionsRegistryTest {
+
+	private List<DatabaseSchemaCrawlerOptions> crawlerOptions() {
+		final DatabaseSchemaCrawlerOptions options = new DatabaseSchemaCrawlerOptions();
+		options.setType("hsqldb");
+		final SchemaCrawlerInclusionRule tableRule = new SchemaCrawlerInclusionRule();
+		tableRule.setType(RuleType.REGULAR_EXPRESSION);
+		tableRule.setPatternInclude(".*\\.SYNTHETIC\\..*");
+		options.getRules().setTableInclusionRule(tableRule);
+		final List<DatabaseSchemaCrawlerOptions> list = new ArrayList<DatabaseSchemaCrawlerOptions>();
+		list.add(options);
+		return list;
+	}
+
+	@Test
+	public void buildsOptionsOnFirstUse() throws Exception {
+		final SchemaCrawlerOptionsRegistry registry = new SchemaCrawlerOptionsRegistry(crawlerOptions());
+		assertFalse(registry.isInitialized());
+
+		final SchemaCrawlerOptions options = registry.getOptions("hsqldb");
+		assertNotNull(options);
+		assertSame("Options are built once", options, registry.getOptions("hsqldb"));
+		assertNull(registry.getOptions("oracle"));
+		assertFalse("Options do not load the database plugins", registry.isInitialized());
+
+		assertNotNull(registry.getDatabaseConnectorRegistry());
+		assertTrue(registry.isInitialized());
+	}
+
+	@Test
+	public void snapshotsAreSwappedOnReload() {
+		final List<DatabaseSchemaCrawlerOptions> crawlerOptions = crawlerOptions();
+		final SchemaCrawlerOptionsRegistry registry = new SchemaCrawlerOptionsRegistry(crawlerOptions);
+		final CrawlerOptionsSnapshot snapshot = registry.getSnapshot("hsqldb");
+		assertEquals(SchemaCrawlerOptionFingerprint.of(snapshot.getOptions()), snapshot.getFingerprint());
+		assertNull(registry.getSnapshot(null));
+
+		crawlerOptions.get(0).getRules().getTableInclusionRule().setPatternInclude(".*\\.OTHER\\..*");
+		assertSame("Changes are picked up on reload only", snapshot, registry.getSnapshot("hsqldb"));
+		registry.reload();
+		final CrawlerOptionsSnapshot reloaded = registry.getSnapshot("hsqldb");
+		assertNotSame(snapshot, reloaded);
+		assertFalse(snapshot.getFingerprint().equals(reloaded.getFingerprint()));
+	}
+
+	@Test
+	public void templateUsesConfiguredOptionsWithoutRegistry() {
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getCrawlerOptions().addAll(crawlerOptions());
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		assertSame(properties.getCrawlerOptions().get(0).getOptions(), template.getCrawlerOptions("hsqldb"));
+		assertEquals(SchemaCrawlerOptionFingerprint.of(SchemaCrawlerOptionBuilder.standard()),
+				SchemaCrawlerOptionFingerprint.of(template.getCrawlerOptions("oracle")));
+		assertNull(template.getDatabaseCrawlerOptions("oracle"));
+	}
+
+	@Test
+	public void templateViewsShareTheRegistry() {
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getCrawlerOptions().addAll(crawlerOptions());
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		final SchemaCrawlerTemplate view = template.withoutCache();
+		assertSame(template.getOptionsRegistry(), view.getOptionsRegistry());
+		assertSame(template.getCrawlerOptionsSnapshot("hsqldb"), view.getCrawlerOptionsSnapshot("hsqldb"));
+
+		// Rebinding replaces the configured options, which are read again on reload
+		final List<DatabaseSchemaCrawlerOptions> rebound = crawlerOptions();
+		rebound.get(0).getRules().getTableInclusionRule().setPatternInclude(".*\\.OTHER\\..*");
+		properties.setCrawlerOptions(rebound);
+		template.getOptionsRegistry().reload();
+		assertSame(template.getCrawlerOptionsSnapshot("hsqldb"), view.getCrawlerOptionsSnapshot("hsqldb"));
+		assertSame(rebound.get(0).getOptions(), view.getCrawlerOptions("hsqldb"));
+	}
+
+	@Test
+	public void snapshotsHoldUnmodifiableCopies() {
+		final List<DatabaseSchemaCrawlerOptions> crawlerOptions = crawlerOptions();
+		crawlerOptions.get(0).setUrl("jdbc:hsqldb:mem:registry");
+		crawlerOptions.get(0).getTuning().setFetchSize(500);
+		final SchemaCrawlerOptionsRegistry registry = new SchemaCrawlerOptionsRegistry(crawlerOptions);
+		final DatabaseSchemaCrawlerOptions snapshot = registry.getDatabaseCrawlerOptions("hsqldb");
+		assertNotSame(crawlerOptions.get(0), snapshot);
+		assertSame(registry.getOptions("hsqldb"), snapshot.getOptions());
+
+		crawlerOptions.get(0).setUrl("jdbc:hsqldb:mem:other");
+		crawlerOptions.get(0).getTuning().setFetchSize(50);
+		assertEquals("jdbc:hsqldb:mem:registry", snapshot.getUrl());
+		assertEquals(Integer.valueOf(500), snapshot.getTuning().getFetchSize());
+
+		snapshot.getTuning().setFetchSize(5);
+		assertEquals(Integer.valueOf(500), snapshot.getTuning().getFetchSize());
+		try {
+			snapshot.setUrl("jdbc:hsqldb:mem:other");
+			fail("Snapshot options are modifiable");
+		} catch (UnsupportedOperationException e) {
+			assertEquals("jdbc:hsqldb:mem:registry", snapshot.getUrl());
+		}
+	}
+
+	@Test
+	public void reloaderReloadsOnEnvironmentChange() {
+		final SchemaCrawlerOptionsRegistry registry = new SchemaCrawlerOptionsRegistry(crawlerOptions());
+		final CrawlerOptionsSnapshot snapshot = registry.getSnapshot("hsqldb");
+		final SchemaCrawlerOptionsReloader reloader = new SchemaCrawlerOptionsReloader(registry);
+		assertFalse(reloader.supportsEventType(ApplicationReadyEvent.class));
+		assertFalse(reloader.supportsEventType(ContextRefreshedEvent.class));
+
+		reloader.onApplicationEvent(new ContextRefreshedEvent(new GenericApplicationContext()));
+		assertNotSame(snapshot, registry.getSnapshot("hsqldb"));
+	}
+
+	@Test
+	public void lazyInitializationWaitsForFirstUse() {
+		final SchemaCrawlerOptionsRegistry registry = new SchemaCrawlerOptionsRegistry(crawlerOptions());
+		final SchemaCrawlerOptionsRegistryInitializer initializer = new SchemaCrawlerOptionsRegistryInitializer(registry,
+				RegistryInitialization.LAZY, Runnable::run);
+		initializer.afterSingletonsInstantiated();
+		initializer.onApplicationEvent(null);
+		assertFalse(registry.isInitialized());
+	}
+
+	@Test
+	public void eagerInitialization() {
+		final SchemaCrawlerOptionsRegistry registry = new SchemaCrawlerOptionsRegistry(crawlerOptions());
+		new SchemaCrawlerOptionsRegistryInitializer(registry, RegistryInitialization.EAGER, Runnable::run)
+				.afterSingletonsInstantiated();
+		assertTrue(registry.isInitialized());
+	}
+
+	@Test
+	public void asyncInitializationOnceReady() throws Exception {
+		final SchemaCrawlerOptionsRegistry registry = new SchemaCrawlerOptionsRegistry(crawlerOptions());
+		final CountDownLatch done = new CountDownLatch(1);
+		final SchemaCrawlerOptionsRegistryInitializer initializer = new SchemaCrawlerOptionsRegistryInitializer(registry,
+				RegistryInitialization.ASYNC, command -> new Thread(() -> {
+					command.run();
+					done.countDown();
+				}).start());
+		initializer.afterSingletonsInstantiated();
+		assertFalse(registry.isInitialized());
+		initializer.onApplicationEvent(null);
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		assertTrue(registry.isInitialized());
+	}
+
+}
@@ -0,0 +1,80 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.actuate.SchemaCrawlerEndpoint;
+import schemacrawler.spring.boot.ext.cache.CatalogCache;
+import schemacrawler.spring.boot.ext.listener.CrawlListener;
+import schemacrawler.spring.boot.ext.listener.CrawlStatsListener;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+public class SchemaCrawlerEndpointTest {
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("endpoint");
+	private final JDBCDataSource dataSource = database.getDataSource();
+	private SchemaCrawlerEndpoint endpoint;
+	private SchemaCrawlerTemplate template;
+
+	@Before
+	public void setUp() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(10).generate(dataSource);
+
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getCache().setEnabled(true);
+		final DatabaseSchemaCrawlerOptions crawlerOptions = new DatabaseSchemaCrawlerOptions();
+		crawlerOptions.setType("hsqldb");
+		crawlerOptions.setOptions(SchemaCrawlerOptionBuilder.standard());
+		properties.getCrawlerOptions().add(crawlerOptions);
+
+		final CrawlStatsListener stats = new CrawlStatsListener();
+		template = new SchemaCrawlerTemplate(properties);
+		template.setCatalogCache(new CatalogCache(properties.getCache()));
+		template.setListeners(Collections.<CrawlListener>singletonList(stats));
+		endpoint = new SchemaCrawlerEndpoint(properties, template, stats, dataSource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void refreshAndEvict() throws Exception {
+		final Map<String, Object> refreshed = endpoint.refresh("hsqldb");
+		assertTrue((Integer) refreshed.get("tables") > 0);
+
+		final Map<String, Object> status = endpoint.status();
+		final Map<String, Map<String, Object>> lastCrawls = (Map<String, Map<String, Object>>) status.get("lastCrawls");
+		assertEquals("success", lastCrawls.get("hsqldb").get("outcome"));
+		final Map<String, Object> cache = (Map<String, Object>) status.get("cache");
+		assertEquals(1, ((List<?>) cache.get("entries")).size());
+
+		assertEquals(1, endpoint.evict("hsqldb"));
+		assertEquals(0, template.getCatalogCache().size());
+	}
+
+	@Test
+	public void urlsAreSanitized() {
+		assertEquals("jdbc:postgresql://scott:******@db:5432/app", SchemaCrawlerEndpoint.sanitize("jdbc:postgresql://scott:tiger@db:5432/app"));
+		assertEquals("jdbc:mysql://db/app?user=scott&password=******&useSSL=true",
+				SchemaCrawlerEndpoint.sanitize("jdbc:mysql://db/app?user=scott&password=tiger&useSSL=true"));
+		assertEquals("jdbc:sqlserver://db;user=scott;Password=******;", SchemaCrawlerEndpoint.sanitize("jdbc:sqlserver://db;user=scott;Password=tiger;"));
+		assertEquals("jdbc:oracle:thin:scott/******@db:1521:orcl", SchemaCrawlerEndpoint.sanitize("jdbc:oracle:thin:scott/tiger@db:1521:orcl"));
+		assertEquals("jdbc:hsqldb:mem:endpoint", SchemaCrawlerEndpoint.sanitize("jdbc:hsqldb:mem:endpoint"));
+		assertNull(SchemaCrawlerEndpoint.sanitize(null));
+	}
+
+}
@@ -0,0 +1,58 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.spring.boot.utils.SchemaCrawlerPartitions;
+
+public class SchemaCrawlerPartitionsTest {
+
+	@Test
+	public void batchesShareNamePrefixes() {
+		final List<String> names = new ArrayList<String>();
+		for (int i = 0; i < 1000; i++) {
+			names.add("T" + i);
+		}
+		Collections.shuffle(names);
+		final List<List<String>> batches = SchemaCrawlerPartitions.byNamePrefix(names, 100);
+
+		int tables = 0;
+		for (List<String> batch : batches) {
+			assertTrue(batch.size() <= 100);
+			final String pattern = SchemaCrawlerPartitions.tableNamePattern(batch);
+			final boolean like = pattern.endsWith("%");
+			final String prefix = like ? pattern.substring(0, pattern.length() - 1) : pattern;
+			int listed = 0;
+			for (String name : names) {
+				listed += (like ? name.startsWith(prefix) : name.equals(prefix)) ? 1 : 0;
+			}
+			// A batch lists its own tables and a few more, never the whole schema
+			assertTrue(pattern + " lists " + listed + " tables", listed <= 111);
+			tables += batch.size();
+		}
+		assertEquals(names.size(), tables);
+		assertEquals(19, batches.size());
+	}
+
+	@Test
+	public void tableNamePatterns() {
+		assertEquals("ORDERS", SchemaCrawlerPartitions.tableNamePattern(Arrays.asList("ORDERS")));
+		assertEquals("ORDER%", SchemaCrawlerPartitions.tableNamePattern(Arrays.asList("ORDERS", "ORDER_ITEMS")));
+		assertNull(SchemaCrawlerPartitions.tableNamePattern(Arrays.asList("ORDERS", "CUSTOMERS")));
+		assertNull(SchemaCrawlerPartitions.tableNamePattern(Collections.<String>emptyList()));
+	}
+
+	@Test
+	public void smallSchemasAreOneBatch() {
+		assertEquals(Arrays.asList(Arrays.asList("A", "B", "C")), SchemaCrawlerPartitions.byNamePrefix(Arrays.asList("C", "A", "B"), 100));
+	}
+
+}
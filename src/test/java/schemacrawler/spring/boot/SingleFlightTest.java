@@ -0,0 +1,65 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import schemacrawler.spring.boot.ext.concurrent.SingleFlight;
+
+public class SingleFlightTest {
+
+	@Test
+	public void concurrentCallsShareOneLoad() throws Exception {
+		final SingleFlight<String, Object> singleFlight = new SingleFlight<String, Object>();
+		final AtomicInteger loads = new AtomicInteger();
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Object result = new Object();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<Object>> futures = new ArrayList<Future<Object>>();
+			futures.add(executor.submit(() -> singleFlight.execute("key", () -> {
+				loads.incrementAndGet();
+				started.countDown();
+				release.await();
+				return result;
+			})));
+			started.await();
+			for (int i = 0; i < 7; i++) {
+				futures.add(executor.submit(() -> singleFlight.execute("key", () -> {
+					loads.incrementAndGet();
+					return new Object();
+				})));
+			}
+			// give the followers time to join the in-flight call
+			Thread.sleep(100);
+			release.countDown();
+			for (Future<Object> future : futures) {
+				assertSame(result, future.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, loads.get());
+			assertEquals(0, singleFlight.inFlight().size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void failureIsPropagated() throws Exception {
+		new SingleFlight<String, Object>().execute("key", () -> {
+			throw new IllegalStateException("crawl failed");
+		});
+	}
+
+}
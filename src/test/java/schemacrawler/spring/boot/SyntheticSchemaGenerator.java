@@ -0,0 +1,166 @@
+package schemacrawler.spring.boot;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+
+import javax.sql.DataSource;
+
+/**
+ * Generates a realistic synthetic schema in an embedded HyperSQL database: tables with a
+ * dense foreign key graph, a few very wide tables, indexes, views, sequences, synonyms and
+ * routines. The generated schema only depends on the settings and the seed.
+ *
+ * <pre>
+ * new SyntheticSchemaGenerator("SYNTHETIC").tables(5000).wideTables(5).seed(42).generate(connection);
+ * </pre>
+ */
+public class SyntheticSchemaGenerator {
+
+	private static final String[] TYPES = { "INTEGER", "BIGINT", "VARCHAR(64)", "VARCHAR(255)", "DECIMAL(18,2)", "DATE", "TIMESTAMP", "BOOLEAN" };
+
+	private final String schema;
+	private long seed = 42;
+	private int tables = 100;
+	private int minColumns = 5;
+	private int maxColumns = 20;
+	private int wideTables = 0;
+	private int wideTableColumns = 500;
+	private int foreignKeysPerTable = 2;
+	private int indexesPerTable = 1;
+	private int views = 0;
+	private int sequences = 0;
+	private int synonyms = 0;
+	private int routines = 0;
+
+	public SyntheticSchemaGenerator(String schema) {
+		this.schema = schema;
+	}
+
+	public SyntheticSchemaGenerator seed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator tables(int tables) {
+		this.tables = tables;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator columns(int minColumns, int maxColumns) {
+		this.minColumns = minColumns;
+		this.maxColumns = maxColumns;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator wideTables(int wideTables) {
+		this.wideTables = wideTables;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator wideTableColumns(int wideTableColumns) {
+		this.wideTableColumns = wideTableColumns;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator foreignKeysPerTable(int foreignKeysPerTable) {
+		this.foreignKeysPerTable = foreignKeysPerTable;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator indexesPerTable(int indexesPerTable) {
+		this.indexesPerTable = indexesPerTable;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator views(int views) {
+		this.views = views;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator sequences(int sequences) {
+		this.sequences = sequences;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator synonyms(int synonyms) {
+		this.synonyms = synonyms;
+		return this;
+	}
+
+	public SyntheticSchemaGenerator routines(int routines) {
+		this.routines = routines;
+		return this;
+	}
+
+	public String getSchema() {
+		return schema;
+	}
+
+	public int getTables() {
+		return tables;
+	}
+
+	public void generate(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			generate(connection);
+		}
+	}
+
+	public void generate(Connection connection) throws SQLException {
+		final Random random = new Random(seed);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE SCHEMA " + schema);
+			for (int t = 0; t < tables; t++) {
+				createTable(statement, random, t);
+			}
+			for (int v = 0; v < views; v++) {
+				final int t = random.nextInt(tables);
+				statement.execute("CREATE VIEW " + schema + ".V" + v + " AS SELECT ID, C0 FROM " + table(t) + " WHERE ID > " + random.nextInt(1000));
+			}
+			for (int s = 0; s < sequences; s++) {
+				statement.execute("CREATE SEQUENCE " + schema + ".SEQ" + s + " START WITH " + (1 + random.nextInt(1000)));
+			}
+			for (int s = 0; s < synonyms; s++) {
+				statement.execute("CREATE SYNONYM " + schema + ".SYN" + s + " FOR " + table(random.nextInt(tables)));
+			}
+			for (int r = 0; r < routines; r++) {
+				if (r % 2 == 0) {
+					statement.execute("CREATE FUNCTION " + schema + ".F" + r + "(X INTEGER) RETURNS INTEGER RETURN X + " + random.nextInt(100));
+				} else {
+					statement.execute("CREATE PROCEDURE " + schema + ".P" + r + "(IN X INTEGER) BEGIN ATOMIC DECLARE Y INTEGER; SET Y = X; END");
+				}
+			}
+		}
+	}
+
+	private void createTable(Statement statement, Random random, int t) throws SQLException {
+		// the wide tables are spread evenly over the schema
+		final boolean wide = wideTables > 0 && t % Math.max(1, tables / wideTables) == 0 && t / Math.max(1, tables / wideTables) < wideTables;
+		final int columns = wide ? wideTableColumns : minColumns + random.nextInt(Math.max(1, maxColumns - minColumns + 1));
+
+		final StringBuilder ddl = new StringBuilder("CREATE TABLE ").append(table(t)).append(" (ID INTEGER PRIMARY KEY");
+		for (int c = 0; c < columns; c++) {
+			// C0 is always a string column, so that views and indexes can rely on it
+			ddl.append(", C").append(c).append(' ').append(c == 0 ? "VARCHAR(64)" : TYPES[random.nextInt(TYPES.length)]);
+		}
+		// foreign keys only reference earlier tables, so every referenced table exists
+		final int foreignKeys = t == 0 ? 0 : Math.min(t, foreignKeysPerTable);
+		for (int f = 0; f < foreignKeys; f++) {
+			ddl.append(", FK").append(f).append(" INTEGER");
+			ddl.append(", CONSTRAINT FK_T").append(t).append('_').append(f)
+					.append(" FOREIGN KEY (FK").append(f).append(") REFERENCES ").append(table(random.nextInt(t))).append(" (ID)");
+		}
+		statement.execute(ddl.append(')').toString());
+
+		for (int i = 0; i < indexesPerTable && i < columns; i++) {
+			statement.execute("CREATE INDEX " + schema + ".IX_T" + t + "_" + i + " ON " + table(t) + " (C" + i + ")");
+		}
+	}
+
+	private String table(int t) {
+		return schema + ".T" + t;
+	}
+
+}
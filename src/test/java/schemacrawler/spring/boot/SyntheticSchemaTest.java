@@ -0,0 +1,137 @@
+package schemacrawler.spring.boot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.cache.CatalogCache;
+import schemacrawler.spring.boot.ext.concurrent.CrawlExecutor;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+/**
+ * Crawls a generated schema in an embedded HyperSQL database, exercising the crawl, cache and
+ * serialization paths without a live database server.
+ */
+public class SyntheticSchemaTest {
+
+	private final SyntheticSchemaGenerator generator = new SyntheticSchemaGenerator("SYNTHETIC")
+			.tables(50).wideTables(1).wideTableColumns(500).foreignKeysPerTable(3)
+			.views(5).sequences(3).synonyms(3).routines(4).seed(7);
+
+	private final HsqldbDatabase database = HsqldbDatabase.inMemory("synthetic");
+	private final JDBCDataSource dataSource = database.getDataSource();
+
+	@Before
+	public void setUp() throws Exception {
+		generator.generate(dataSource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		database.close();
+	}
+
+	@Test
+	public void crawlCacheAndSerialize() throws Exception {
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getCache().setEnabled(true);
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		template.setCatalogCache(new CatalogCache(properties.getCache()));
+
+		final Catalog catalog = template.crawl(dataSource, new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll());
+		assertNotNull("Could not obtain catalog", catalog);
+		final Schema schema = catalog.lookupSchema("PUBLIC.SYNTHETIC").orElse(null);
+		assertNotNull("Could not obtain schema", schema);
+		// tables and views
+		assertEquals(generator.getTables() + 5, catalog.getTables(schema).size());
+
+		int widest = 0;
+		for (Table table : catalog.getTables(schema)) {
+			widest = Math.max(widest, table.getColumns().size());
+		}
+		assertTrue("Wide table not crawled", widest > 500);
+
+		assertSame("Catalog not served from cache", catalog,
+				template.crawl(dataSource, new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll()));
+
+		final Catalog clonedCatalog = SerializationUtils.clone(catalog);
+		assertEquals(catalog.getTables(schema).size(), clonedCatalog.getTables(clonedCatalog.lookupSchema("PUBLIC.SYNTHETIC").get()).size());
+	}
+
+	@Test
+	public void crawlSchemasOnSharedExecutor() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC_OTHER").tables(5).generate(dataSource);
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getExecutor().setVirtualThreads(false);
+		properties.getExecutor().setMaxPoolSize(1);
+		final DatabaseSchemaCrawlerOptions crawlerOptions = new DatabaseSchemaCrawlerOptions();
+		crawlerOptions.setType("hsqldb");
+		crawlerOptions.setParallelism(4);
+		crawlerOptions.setOptions(SchemaCrawlerOptionBuilder.standard().withLimitOptions(
+				LimitOptionsBuilder.builder().includeSchemas(new RegularExpressionInclusionRule(".*\\.SYNTHETIC.*")).toOptions()));
+		properties.getCrawlerOptions().add(crawlerOptions);
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		final CrawlExecutor crawlExecutor = new CrawlExecutor(properties.getExecutor());
+		template.setCrawlExecutor(crawlExecutor);
+		try {
+			final Map<String, Catalog> catalogs = template.crawlSchemas(dataSource, "hsqldb");
+			assertEquals(2, catalogs.size());
+			assertEquals(generator.getTables() + 5, catalogs.get("PUBLIC.SYNTHETIC").getTables().size());
+			assertEquals(5, catalogs.get("PUBLIC.SYNTHETIC_OTHER").getTables().size());
+		} finally {
+			crawlExecutor.destroy();
+		}
+	}
+
+	@Test
+	public void crawlSchemasDoesNotWaitForQueuedWorkers() throws Exception {
+		new SyntheticSchemaGenerator("SYNTHETIC_OTHER").tables(5).generate(dataSource);
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getExecutor().setVirtualThreads(false);
+		properties.getExecutor().setMaxPoolSize(1);
+		final DatabaseSchemaCrawlerOptions crawlerOptions = new DatabaseSchemaCrawlerOptions();
+		crawlerOptions.setType("hsqldb");
+		crawlerOptions.setParallelism(2);
+		crawlerOptions.setOptions(SchemaCrawlerOptionBuilder.standard().withLimitOptions(
+				LimitOptionsBuilder.builder().includeSchemas(new RegularExpressionInclusionRule(".*\\.SYNTHETIC.*")).toOptions()));
+		properties.getCrawlerOptions().add(crawlerOptions);
+		final SchemaCrawlerTemplate template = new SchemaCrawlerTemplate(properties);
+		final CrawlExecutor crawlExecutor = new CrawlExecutor(properties.getExecutor());
+		template.setCrawlExecutor(crawlExecutor);
+		// The only platform thread is busy, so the helper worker stays queued while the calling thread crawls
+		final CountDownLatch release = new CountDownLatch(1);
+		crawlExecutor.execute(() -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		try {
+			final Map<String, Catalog> catalogs = template.crawlSchemas(dataSource, "hsqldb");
+			assertEquals(2, catalogs.size());
+			assertEquals(5, catalogs.get("PUBLIC.SYNTHETIC_OTHER").getTables().size());
+		} finally {
+			release.countDown();
+			crawlExecutor.destroy();
+		}
+	}
+
+}
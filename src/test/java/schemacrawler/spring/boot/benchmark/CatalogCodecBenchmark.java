@@ -0,0 +1,102 @@
+package schemacrawler.spring.boot.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.spring.boot.HsqldbDatabase;
+import schemacrawler.spring.boot.SchemaCrawlerProperties;
+import schemacrawler.spring.boot.SchemaCrawlerTemplate;
+import schemacrawler.spring.boot.SyntheticSchemaGenerator;
+import schemacrawler.spring.boot.ext.codec.CatalogCodec;
+import schemacrawler.spring.boot.ext.codec.CatalogCodec.Compression;
+
+/**
+ * Compares {@link CatalogCodec} with plain Java serialization ({@link SerializationUtils}) on a
+ * crawled synthetic catalog. The encoded sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CatalogCodecBenchmark {
+
+	@Param({ "1000", "10000" })
+	private int tables;
+
+	private Catalog catalog;
+	private byte[] serialized;
+	private final CatalogCodec plainCodec = new CatalogCodec(Compression.NONE);
+	private final CatalogCodec deflateCodec = new CatalogCodec(Compression.DEFLATE);
+	private byte[] plainEncoded;
+	private byte[] deflateEncoded;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		try (HsqldbDatabase database = HsqldbDatabase.inMemory("codec" + tables)) {
+			new SyntheticSchemaGenerator("SYNTHETIC").tables(tables).generate(database.getDataSource());
+			catalog = new SchemaCrawlerTemplate(new SchemaCrawlerProperties()).crawl(database.getDataSource(),
+					new RegularExpressionInclusionRule(".*\\.SYNTHETIC"), new IncludeAll());
+		}
+
+		serialized = SerializationUtils.serialize(catalog);
+		plainEncoded = plainCodec.encode(catalog);
+		deflateEncoded = deflateCodec.encode(catalog);
+		System.out.printf("%n%d tables: java serialization %d bytes, codec %d bytes, codec+deflate %d bytes%n", tables,
+				serialized.length, plainEncoded.length, deflateEncoded.length);
+	}
+
+	@Benchmark
+	public byte[] javaSerializationWrite() {
+		return SerializationUtils.serialize(catalog);
+	}
+
+	@Benchmark
+	public Catalog javaSerializationRead() {
+		return SerializationUtils.deserialize(serialized);
+	}
+
+	@Benchmark
+	public byte[] codecWrite() throws Exception {
+		return plainCodec.encode(catalog);
+	}
+
+	@Benchmark
+	public Catalog codecRead() throws Exception {
+		return plainCodec.decode(plainEncoded);
+	}
+
+	@Benchmark
+	public byte[] codecDeflateWrite() throws Exception {
+		return deflateCodec.encode(catalog);
+	}
+
+	@Benchmark
+	public Catalog codecDeflateRead() throws Exception {
+		return deflateCodec.decode(deflateEncoded);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(CatalogCodecBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
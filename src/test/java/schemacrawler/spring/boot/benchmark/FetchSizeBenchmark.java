@@ -0,0 +1,117 @@
+package schemacrawler.spring.boot.benchmark;
+
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.hsqldb.server.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.schema.Catalog;
+import schemacrawler.spring.boot.HsqldbDatabase;
+import schemacrawler.spring.boot.SchemaCrawlerProperties;
+import schemacrawler.spring.boot.SchemaCrawlerTemplate;
+import schemacrawler.spring.boot.SyntheticSchemaGenerator;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.RetrievalMode;
+import schemacrawler.spring.boot.ext.jdbc.JdbcTuning;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+/**
+ * Shows the effect of the fetch size of {@link JdbcTuning} on crawl time. The synthetic schema is
+ * served by a HyperSQL server over TCP, so that every fetch of a block of rows is a network round
+ * trip, as with a remote database. A fetch size of 0 keeps the driver default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FetchSizeBenchmark {
+
+	private static final String DB_TYPE = "hsqldb";
+
+	@Param({ "1000" })
+	private int tables;
+	@Param({ "0", "10", "100", "1000" })
+	private int fetchSize;
+
+	private Server server;
+	private JDBCDataSource dataSource;
+	private SchemaCrawlerTemplate template;
+	private DatabaseSchemaCrawlerOptions crawlerOptions;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		final int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		server = new Server();
+		server.setDatabaseName(0, "fetch");
+		server.setDatabasePath(0, "mem:fetch" + tables);
+		server.setPort(port);
+		server.setSilent(true);
+		server.setNoSystemExit(true);
+		server.start();
+
+		dataSource = new HsqldbDatabase("jdbc:hsqldb:hsql://localhost:" + port + "/fetch").getDataSource();
+		new SyntheticSchemaGenerator("SYNTHETIC").tables(tables).generate(dataSource);
+
+		crawlerOptions = new DatabaseSchemaCrawlerOptions();
+		crawlerOptions.setType(DB_TYPE);
+		crawlerOptions.setOptions(SchemaCrawlerOptionBuilder.tablecolumns(new IncludeAll()));
+		crawlerOptions.setRetrievalMode(RetrievalMode.BULK);
+		crawlerOptions.getTuning().setFetchSize(fetchSize);
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getCrawlerOptions().add(crawlerOptions);
+		template = new SchemaCrawlerTemplate(properties);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.shutdown();
+	}
+
+	@Benchmark
+	public Catalog crawl() throws Exception {
+		return template.crawl(dataSource, DB_TYPE);
+	}
+
+	@Benchmark
+	public long dictionaryQuery() throws Exception {
+		long rows = 0;
+		try (Connection connection = JdbcTuning.apply(dataSource.getConnection(), JdbcTuning.resolve(DB_TYPE, crawlerOptions.getTuning()));
+				Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT * FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'SYNTHETIC'")) {
+			while (resultSet.next()) {
+				rows++;
+			}
+		}
+		return rows;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(FetchSizeBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
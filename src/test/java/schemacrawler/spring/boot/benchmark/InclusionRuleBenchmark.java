@@ -0,0 +1,81 @@
+package schemacrawler.spring.boot.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionRule;
+import schemacrawler.spring.boot.ext.RuleType;
+import schemacrawler.spring.boot.ext.SchemaCrawlerInclusionRule;
+
+/**
+ * Matches 100k object names with a {@link RegularExpressionRule} built per call, as before, and with
+ * the cached fast path rule of {@link SchemaCrawlerInclusionRule#inclusionRule()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InclusionRuleBenchmark {
+
+	private static final int NAMES = 100_000;
+
+	@Param({ "HR.EMPLOYEES", "HR\\.EMP.*", ".*", "HR\\.EMP_[0-9]+" })
+	private String patternInclude;
+
+	private String[] names;
+	private SchemaCrawlerInclusionRule rule;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		names = new String[NAMES];
+		for (int i = 0; i < NAMES; i++) {
+			names[i] = (random.nextBoolean() ? "HR.EMP_" : "SALES.ORDER_") + random.nextInt(NAMES);
+		}
+		rule = new SchemaCrawlerInclusionRule();
+		rule.setType(RuleType.REGULAR_EXPRESSION);
+		rule.setPatternInclude(patternInclude);
+	}
+
+	@Benchmark
+	public int regularExpressionRule() {
+		return count(new RegularExpressionRule(rule.getPatternInclude(), rule.getPatternExclude()));
+	}
+
+	@Benchmark
+	public int cachedFastPathRule() {
+		return count(rule.inclusionRule());
+	}
+
+	private int count(InclusionRule inclusionRule) {
+		int included = 0;
+		for (String name : names) {
+			if (inclusionRule.test(name)) {
+				included++;
+			}
+		}
+		return included;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(InclusionRuleBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
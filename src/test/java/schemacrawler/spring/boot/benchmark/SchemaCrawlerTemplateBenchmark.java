@@ -0,0 +1,170 @@
+package schemacrawler.spring.boot.benchmark;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.spring.boot.HsqldbDatabase;
+import schemacrawler.spring.boot.SchemaCrawlerProperties;
+import schemacrawler.spring.boot.SchemaCrawlerTemplate;
+import schemacrawler.spring.boot.SyntheticSchemaGenerator;
+import schemacrawler.spring.boot.ext.DatabaseSchemaCrawlerOptions;
+import schemacrawler.spring.boot.ext.SchemaCrawlerConnectionProvider;
+import schemacrawler.spring.boot.utils.SchemaCrawlerOptionBuilder;
+
+/**
+ * Benchmarks every {@link SchemaCrawlerTemplate} crawl overload over a synthetic schema in an in-memory
+ * HyperSQL database generated by {@link SyntheticSchemaGenerator}, at each {@link SchemaCrawlerOptionBuilder} preset. The catalog cache is not configured,
+ * so every invocation crawls the database.
+ *
+ * Run with {@code java -cp <test classpath> schemacrawler.spring.boot.benchmark.SchemaCrawlerTemplateBenchmark},
+ * or pass {@code -p tables=100,1000} to limit the schema sizes. The number of columns, foreign keys and indexes per
+ * table are parameters as well, for example {@code -p columns=10 -p foreignKeys=3 -p indexes=2}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaCrawlerTemplateBenchmark {
+
+	private static final String DB_TYPE = "hsqldb";
+	private static final String SCHEMA = "SYNTHETIC";
+
+	@Param({ "100", "1000", "10000", "50000" })
+	private int tables;
+	@Param({ "10", "50" })
+	private int columns;
+	@Param({ "0", "2" })
+	private int foreignKeys;
+	@Param({ "1", "3" })
+	private int indexes;
+	@Param({ "minimum", "standard", "tablecolumns", "detailed", "maximum" })
+	private String preset;
+
+	private HsqldbDatabase database;
+	private JDBCDataSource dataSource;
+	private Connection connection;
+	private SchemaCrawlerTemplate template;
+	private SchemaCrawlerOptions options;
+	private SchemaInfoLevel schemaInfoLevel;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		database = HsqldbDatabase.inMemory("benchmark" + tables + "x" + columns + "f" + foreignKeys + "i" + indexes);
+		dataSource = database.getDataSource();
+		new SyntheticSchemaGenerator(SCHEMA).tables(tables).columns(columns, columns).foreignKeysPerTable(foreignKeys)
+				.indexesPerTable(indexes).generate(dataSource);
+		connection = dataSource.getConnection();
+
+		options = presetOptions(preset);
+		schemaInfoLevel = options.getLoadOptions().getSchemaInfoLevel();
+
+		final DatabaseSchemaCrawlerOptions crawlerOptions = new DatabaseSchemaCrawlerOptions();
+		crawlerOptions.setType(DB_TYPE);
+		crawlerOptions.setOptions(options);
+		final SchemaCrawlerProperties properties = new SchemaCrawlerProperties();
+		properties.getCrawlerOptions().add(crawlerOptions);
+		template = new SchemaCrawlerTemplate(properties);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		connection.close();
+		database.close();
+	}
+
+	@Benchmark
+	public Catalog crawlDataSourceDbType() throws Exception {
+		return template.crawl(dataSource, DB_TYPE);
+	}
+
+	@Benchmark
+	public Catalog crawlDataSourceSchemaInfoLevel() throws Exception {
+		return template.crawl(dataSource, schemaInfoLevel);
+	}
+
+	@Benchmark
+	public Catalog crawlDataSourceRules() throws Exception {
+		return template.crawl(dataSource, new RegularExpressionInclusionRule(".*\\." + SCHEMA), new IncludeAll());
+	}
+
+	@Benchmark
+	public Catalog crawlConnectionDbType() throws Exception {
+		return template.crawl(connection, DB_TYPE);
+	}
+
+	@Benchmark
+	public Catalog crawlConnectionRetrievalOptions() throws Exception {
+		return template.crawl(connection, SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(), options);
+	}
+
+	@Benchmark
+	public Catalog crawlConnectionOptions() throws Exception {
+		return template.crawl(connection, options);
+	}
+
+	@Benchmark
+	public Catalog crawlConnectionSchemaInfoLevel() throws Exception {
+		return template.crawl(connection, schemaInfoLevel);
+	}
+
+	@Benchmark
+	public Catalog crawlConnectionRules() throws Exception {
+		return template.crawl(connection, new RegularExpressionInclusionRule(".*\\." + SCHEMA), new IncludeAll());
+	}
+
+	@Benchmark
+	public Catalog crawlConnectionProviderSchemaInfoLevel() throws Exception {
+		return template.crawl(new SchemaCrawlerConnectionProvider(dataSource), schemaInfoLevel);
+	}
+
+	@Benchmark
+	public Catalog crawlConnectionProviderRules() throws Exception {
+		return template.crawl(new SchemaCrawlerConnectionProvider(dataSource), new RegularExpressionInclusionRule(".*\\." + SCHEMA), new IncludeAll());
+	}
+
+	static SchemaCrawlerOptions presetOptions(String preset) {
+		switch (preset) {
+		case "minimum":
+			return SchemaCrawlerOptionBuilder.minimum();
+		case "detailed":
+			return SchemaCrawlerOptionBuilder.detailed();
+		case "maximum":
+			return SchemaCrawlerOptionBuilder.maximum();
+		case "tablecolumns":
+			return SchemaCrawlerOptionBuilder.tablecolumns(new IncludeAll());
+		default:
+			return SchemaCrawlerOptionBuilder.custom(SchemaInfoLevelBuilder.standard());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(SchemaCrawlerTemplateBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
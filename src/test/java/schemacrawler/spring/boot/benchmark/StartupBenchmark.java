@@ -0,0 +1,100 @@
+package schemacrawler.spring.boot.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import schemacrawler.spring.boot.HsqldbDatabase;
+import schemacrawler.spring.boot.SchemaCrawlerAutoConfiguration;
+import schemacrawler.spring.boot.SchemaCrawlerTemplate;
+import schemacrawler.spring.boot.ext.registry.SchemaCrawlerOptionsRegistry;
+
+/**
+ * Measures the cold startup of an application context with the {@link SchemaCrawlerAutoConfiguration}, for each
+ * initialization of the database connector registry. Every fork starts one context, so that the database plugins
+ * are loaded by a fresh JVM. {@code startupAndFirstUse} adds the first lookup of the crawler options and of the
+ * registry, where the lazy initialization pays its cost.
+ *
+ * Run with {@code java -cp <test classpath> schemacrawler.spring.boot.benchmark.StartupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+	private static final String DB_TYPE = "hsqldb";
+
+	@Param({ "eager", "lazy", "async" })
+	private String initialization;
+
+	private ConfigurableApplicationContext context;
+
+	@TearDown(Level.Invocation)
+	public void tearDown() {
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	@Benchmark
+	public ConfigurableApplicationContext startup() {
+		context = start();
+		return context;
+	}
+
+	@Benchmark
+	public Object startupAndFirstUse() throws Exception {
+		context = start();
+		context.getBean(SchemaCrawlerTemplate.class).getCrawlerOptions(DB_TYPE);
+		return context.getBean(SchemaCrawlerOptionsRegistry.class).getDatabaseConnectorRegistry();
+	}
+
+	private ConfigurableApplicationContext start() {
+		return new SpringApplicationBuilder(StartupConfiguration.class, SchemaCrawlerAutoConfiguration.class)
+				.web(WebApplicationType.NONE)
+				.logStartupInfo(false)
+				.properties("spring.schemacrawler.enabled=true",
+						"spring.schemacrawler.registry.initialization=" + initialization,
+						"spring.schemacrawler.crawler-options[0].type=" + DB_TYPE,
+						"spring.schemacrawler.crawler-options[0].rules.table-inclusion-rule.pattern-include=.*\\.SYNTHETIC\\..*")
+				.run();
+	}
+
+	@Configuration
+	public static class StartupConfiguration {
+
+		@Bean
+		public DataSource dataSource() {
+			return HsqldbDatabase.inMemory("startup").getDataSource();
+		}
+
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(StartupBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}